@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.AccessoryInfo;
+
+/**
+ * AggregationBenchmark measures the per-cycle mapping of a collected fleet into aggregated devices.
+ * Each operation covers the whole fleet, run with {@code -prof gc} to get the allocation rate per cycle.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AggregationBenchmark {
+	@Param({ "100", "1000", "10000" })
+	public int fleetSize;
+
+	private YealinkCommunicator communicator;
+	private List<Map<String, String>> devices;
+	private byte[][] listParts;
+	private MethodHandle cloneAndPopulateAggregatedDeviceList;
+	private MethodHandle mapMonitorProperty;
+	private MethodHandle readAccessories;
+	private MethodHandle mapAccessoryList;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		communicator = new YealinkCommunicator();
+		SyntheticFleet.load(communicator, fleetSize);
+		devices = new ArrayList<>(SyntheticFleet.devices(fleetSize).values());
+		listParts = new byte[fleetSize][];
+		for (int i = 0; i < fleetSize; i++) {
+			listParts[i] = SyntheticFleet.listParts(i);
+		}
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		cloneAndPopulateAggregatedDeviceList = lookup.unreflect(SyntheticFleet.privateMethod("cloneAndPopulateAggregatedDeviceList"));
+		mapMonitorProperty = lookup.unreflect(SyntheticFleet.privateMethod("mapMonitorProperty", Map.class, Map.class));
+		readAccessories = lookup.unreflect(SyntheticFleet.privateMethod("readAccessories", byte[].class));
+		mapAccessoryList = lookup.unreflect(SyntheticFleet.privateMethod("mapAccessoryList", AccessoryInfo[].class, Map.class));
+	}
+
+	@Benchmark
+	public Object cloneAndPopulateAggregatedDeviceList() throws Throwable {
+		return cloneAndPopulateAggregatedDeviceList.invoke(communicator);
+	}
+
+	@Benchmark
+	public void mapMonitorProperty(Blackhole blackhole) throws Throwable {
+		for (Map<String, String> device : devices) {
+			Map<String, String> stats = new HashMap<>();
+			mapMonitorProperty.invoke(communicator, device, stats);
+			blackhole.consume(stats);
+		}
+	}
+
+	@Benchmark
+	public void mapAccessory(Blackhole blackhole) throws Throwable {
+		for (byte[] content : listParts) {
+			Map<String, String> stats = new HashMap<>();
+			mapAccessoryList.invoke(communicator, (AccessoryInfo[]) readAccessories.invoke(communicator, content), stats);
+			blackhole.consume(stats);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.HistoricalPropertyStore;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkConstant;
+
+/**
+ * HistoricalPropertyBenchmark measures the sampling of historical properties of a fleet into {@link HistoricalPropertyStore}.
+ * The historical properties are the numeric properties the adapter emits, the progress of each diagnosis task, next to
+ * the text properties of the same groups. Each operation samples every device of the fleet once. The store is filled before
+ * measurement, so {@code -prof gc} shows the steady-state allocation, which does not include the history arrays.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HistoricalPropertyBenchmark {
+	private static final List<String> TASKS = Arrays.asList(YealinkConstant.EXPORT_LOG, YealinkConstant.PACKET_CAPTURE, YealinkConstant.SCREEN_CAPTURE);
+	private static final List<String> PROPERTIES = Arrays.asList(
+			YealinkConstant.DIAGNOSIS + YealinkConstant.EXPORT_LOG + YealinkConstant.HASH + YealinkConstant.DIAGNOSIS_PROGRESS,
+			YealinkConstant.DIAGNOSIS + YealinkConstant.PACKET_CAPTURE + YealinkConstant.HASH + YealinkConstant.DIAGNOSIS_PROGRESS,
+			YealinkConstant.DIAGNOSIS + YealinkConstant.SCREEN_CAPTURE + YealinkConstant.HASH + YealinkConstant.DIAGNOSIS_PROGRESS);
+
+	@Param({ "1000", "10000" })
+	public int fleetSize;
+
+	@Param({ "20", "120" })
+	public int historySize;
+
+	private HistoricalPropertyStore store;
+	private String[] deviceIds;
+	private List<Map<String, String>> samples;
+	private final Map<String, String> stats = new HashMap<>();
+	private long timestamp;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		store = new HistoricalPropertyStore(PROPERTIES, historySize, YealinkConstant.HISTORY_MEMORY_BUDGET);
+		deviceIds = new String[fleetSize];
+		samples = new ArrayList<>(fleetSize);
+		for (int i = 0; i < fleetSize; i++) {
+			deviceIds[i] = String.format("%032x", i);
+			Map<String, String> sample = new HashMap<>();
+			sample.put("Name", "Room " + i);
+			sample.put("DeviceStatus", "online");
+			for (int task = 0; task < TASKS.size(); task++) {
+				String group = YealinkConstant.DIAGNOSIS + TASKS.get(task) + YealinkConstant.HASH;
+				int progress = (i + task * 37) % 101;
+				sample.put(group + YealinkConstant.DIAGNOSIS_STATUS, progress == 100 ? "Finished" : "Running");
+				sample.put(group + YealinkConstant.DIAGNOSIS_PROGRESS, String.valueOf(progress));
+				sample.put(group + YealinkConstant.DIAGNOSIS_LAST_UPDATE, "Oct 1, 2025, 2:33 AM");
+			}
+			samples.add(sample);
+		}
+		for (int i = 0; i < historySize; i++) {
+			record(null);
+		}
+	}
+
+	@Benchmark
+	public void record(Blackhole blackhole) {
+		timestamp += 30000;
+		for (int i = 0; i < fleetSize; i++) {
+			stats.clear();
+			stats.putAll(samples.get(i));
+			Map<String, String> dynamicStatistics = store.record(deviceIds[i], timestamp, stats);
+			if (blackhole != null) {
+				blackhole.consume(dynamicStatistics);
+			}
+		}
+	}
+}
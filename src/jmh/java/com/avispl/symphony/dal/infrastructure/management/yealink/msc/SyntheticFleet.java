@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.AccessoryInfo;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.AggregatedInformation;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.CachedValue;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkConstant;
+
+/**
+ * SyntheticFleet generates the data of a Yealink fleet shaped like the responses of the Yealink MCS API,
+ * and loads it into a {@link YealinkCommunicator} the way a collection cycle would.
+ * Generation is deterministic, so two runs of a benchmark work on the same fleet.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public final class SyntheticFleet {
+	private static final String[] DEVICE_MODELS = { "MeetingBar A30", "MeetingBar A20", "RoomCast", "MVC S90", "UVC86" };
+	private static final String[] ACCESSORY_MODELS = { "CTP18", "VCM38", "WPP30", "BYOD-Extender" };
+	private static final String[] CONNECT_WAYS = { "USB", "WIFI", "lan" };
+	private static final long BASE_REPORT_TIME = 1759372401000L;
+	private static final int ACCESSORIES_PER_DEVICE = 2;
+
+	private SyntheticFleet() {
+	}
+
+	/**
+	 * Generates the entries of {@code cachedMonitoringDevice}, as mapped from the device list and device detail
+	 *
+	 * @param size number of devices
+	 * @return immutable raw values of each device, keyed by device id
+	 */
+	public static Map<String, Map<String, String>> devices(int size) {
+		Map<String, Map<String, String>> devices = new HashMap<>(size * 4 / 3 + 1);
+		for (int i = 0; i < size; i++) {
+			String deviceId = deviceId(i);
+			Map<String, String> device = new HashMap<>();
+			device.put(YealinkConstant.ID, deviceId);
+			device.put(YealinkConstant.DEVICE_TYPE, "RoomsDevice");
+			device.put(AggregatedInformation.MAC.getPropertyName(), String.format("00:15:65:%02x:%02x:%02x", (i >> 16) & 0xff, (i >> 8) & 0xff, i & 0xff));
+			device.put(AggregatedInformation.SN.getPropertyName(), String.format("80%010d", i));
+			device.put(AggregatedInformation.NAME.getPropertyName(), "Room " + i);
+			device.put(AggregatedInformation.MODEL_NAME.getPropertyName(), DEVICE_MODELS[i % DEVICE_MODELS.length]);
+			device.put(AggregatedInformation.SITE_NAME.getPropertyName(), "site-" + (i % 40));
+			device.put(AggregatedInformation.PROGRAM_VERSION.getPropertyName(), "133.320.0." + (i % 7));
+			device.put(AggregatedInformation.LAN_IP.getPropertyName(), "10." + ((i >> 16) & 0xff) + "." + ((i >> 8) & 0xff) + "." + (i & 0xff));
+			device.put(AggregatedInformation.LAST_REPORT_TIME.getPropertyName(), String.valueOf(BASE_REPORT_TIME + i * 1000L));
+			device.put(AggregatedInformation.DEVICE_STATUS.getPropertyName(), i % 10 == 0 ? "offline" : "online");
+			devices.put(deviceId, Collections.unmodifiableMap(device));
+		}
+		return devices;
+	}
+
+	/**
+	 * Generates the accessories of a device, as read from {@code listParts}
+	 *
+	 * @param index index of the device in the fleet
+	 * @return the accessory entries
+	 */
+	public static AccessoryInfo[] accessories(int index) {
+		AccessoryInfo[] accessories = new AccessoryInfo[ACCESSORIES_PER_DEVICE];
+		for (int i = 0; i < ACCESSORIES_PER_DEVICE; i++) {
+			AccessoryInfo accessory = new AccessoryInfo();
+			accessory.setId(deviceId(index) + "-part-" + i);
+			accessory.setMac(String.format("00:15:66:%02x:%02x:%02x", (index >> 8) & 0xff, index & 0xff, i));
+			accessory.setSn(String.format("90%09d%d", index, i));
+			accessory.setModelId(String.valueOf(i + 1));
+			accessory.setModelName(ACCESSORY_MODELS[(index + i) % ACCESSORY_MODELS.length]);
+			accessory.setConnectWay(CONNECT_WAYS[(index + i) % CONNECT_WAYS.length]);
+			accessory.setConnStatus(index % 10 == 0 ? "0" : "1");
+			accessory.setLanIp("10.1." + (index & 0xff) + "." + i);
+			accessory.setProgramVersion("1.0." + i);
+			accessory.setLastReportTime(String.valueOf(BASE_REPORT_TIME + index * 1000L));
+			accessories[i] = accessory;
+		}
+		return accessories;
+	}
+
+	/**
+	 * Generates a {@code listParts} response of a device
+	 *
+	 * @param index index of the device in the fleet
+	 * @return the raw response
+	 */
+	public static byte[] listParts(int index) {
+		StringBuilder json = new StringBuilder("{\"skip\":0,\"limit\":20,\"total\":").append(ACCESSORIES_PER_DEVICE).append(",\"data\":[");
+		AccessoryInfo[] accessories = accessories(index);
+		for (int i = 0; i < accessories.length; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"id\":\"").append(deviceId(index)).append("-part-").append(i)
+					.append("\",\"mac\":\"00:15:66:00:00:0").append(i)
+					.append("\",\"sn\":\"90").append(index).append(i)
+					.append("\",\"modelId\":\"").append(i + 1)
+					.append("\",\"modelName\":\"").append(ACCESSORY_MODELS[(index + i) % ACCESSORY_MODELS.length])
+					.append("\",\"connectWay\":\"").append(CONNECT_WAYS[(index + i) % CONNECT_WAYS.length])
+					.append("\",\"connStatus\":").append(index % 10 == 0 ? 0 : 1)
+					.append(",\"lanIp\":\"10.1.0.").append(i)
+					.append("\",\"programVersion\":\"1.0.").append(i)
+					.append("\",\"lastReportTime\":").append(BASE_REPORT_TIME + index * 1000L)
+					.append(",\"hardwareVersion\":\"1.0.0.0\",\"extra\":{\"upgradable\":false}}");
+		}
+		return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Retrieves the id of a device of the fleet
+	 *
+	 * @param index index of the device in the fleet
+	 * @return the device id
+	 */
+	public static String deviceId(int index) {
+		return String.format("%032x", index);
+	}
+
+	/**
+	 * Loads a fleet into the caches of a communicator, as a completed collection cycle would
+	 *
+	 * @param communicator target communicator
+	 * @param size number of devices
+	 * @throws ReflectiveOperationException if the caches of the communicator cannot be reached
+	 */
+	@SuppressWarnings("unchecked")
+	public static void load(YealinkCommunicator communicator, int size) throws ReflectiveOperationException {
+		Field monitoringDevice = YealinkCommunicator.class.getDeclaredField("cachedMonitoringDevice");
+		monitoringDevice.setAccessible(true);
+		monitoringDevice.set(communicator, Collections.unmodifiableMap(devices(size)));
+
+		Field accessoryCache = YealinkCommunicator.class.getDeclaredField("cachedAccessories");
+		accessoryCache.setAccessible(true);
+		Map<String, CachedValue<Map<String, String>>> cachedAccessories = (Map<String, CachedValue<Map<String, String>>>) accessoryCache.get(communicator);
+		Method mapAccessoryList = privateMethod("mapAccessoryList", AccessoryInfo[].class, Map.class);
+		for (int i = 0; i < size; i++) {
+			Map<String, String> stats = new HashMap<>();
+			mapAccessoryList.invoke(communicator, accessories(i), stats);
+			cachedAccessories.put(deviceId(i), new CachedValue<>(Collections.unmodifiableMap(stats)));
+		}
+	}
+
+	/**
+	 * Retrieves a private method of {@link YealinkCommunicator}, made accessible
+	 *
+	 * @param name name of the method
+	 * @param parameterTypes parameter types of the method
+	 * @return the method
+	 * @throws NoSuchMethodException if the method does not exist
+	 */
+	public static Method privateMethod(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+		Method method = YealinkCommunicator.class.getDeclaredMethod(name, parameterTypes);
+		method.setAccessible(true);
+		return method;
+	}
+}
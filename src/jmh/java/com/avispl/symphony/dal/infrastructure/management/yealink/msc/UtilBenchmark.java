@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.Util;
+
+/**
+ * UtilBenchmark measures the {@link Util} helpers called for every device of a cycle.
+ * Each operation covers one call per device of the fleet, run with {@code -prof gc} to get the allocation rate.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UtilBenchmark {
+	@Param({ "100", "1000", "10000" })
+	public int fleetSize;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<String, Object> filter = Collections.singletonMap("filter", Collections.singletonMap("deviceType", "RoomsDevice"));
+	private long[] reportTimes;
+	private long[] uptimes;
+
+	@Setup
+	public void setUp() {
+		reportTimes = new long[fleetSize];
+		uptimes = new long[fleetSize];
+		for (int i = 0; i < fleetSize; i++) {
+			reportTimes[i] = 1759372401000L + i * 1000L;
+			uptimes[i] = 90061L * (i % 50);
+		}
+	}
+
+	@Benchmark
+	public void buildRequestBody(Blackhole blackhole) {
+		for (int i = 0; i < fleetSize; i++) {
+			blackhole.consume(Util.buildRequestBody(i, 20, true, filter, objectMapper));
+		}
+	}
+
+	@Benchmark
+	public void formatEpochUtc(Blackhole blackhole) {
+		for (long reportTime : reportTimes) {
+			blackhole.consume(Util.formatEpochUtc(reportTime));
+		}
+	}
+
+	@Benchmark
+	public void normalizeUptime(Blackhole blackhole) {
+		for (long uptime : uptimes) {
+			blackhole.consume(Util.normalizeUptime(uptime));
+		}
+	}
+}
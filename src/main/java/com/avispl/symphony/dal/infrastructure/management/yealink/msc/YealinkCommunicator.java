@@ -5,37 +5,63 @@
 	package com.avispl.symphony.dal.infrastructure.management.yealink.msc;
 
 	import java.io.IOException;
+	import java.time.ZoneId;
+	import java.time.ZonedDateTime;
+	import java.time.format.DateTimeFormatter;
 	import java.util.ArrayList;
 	import java.util.Arrays;
 	import java.util.Collections;
 	import java.util.Date;
+	import java.util.EnumMap;
 	import java.util.HashMap;
 	import java.util.HashSet;
+	import java.util.LinkedHashMap;
+	import java.util.LinkedHashSet;
 	import java.util.List;
 	import java.util.Map;
 	import java.util.Objects;
 	import java.util.Properties;
 	import java.util.Set;
 	import java.util.UUID;
+	import java.util.concurrent.BlockingQueue;
+	import java.util.concurrent.Callable;
+	import java.util.concurrent.CompletableFuture;
+	import java.util.concurrent.CompletionException;
+	import java.util.concurrent.CompletionService;
+	import java.util.concurrent.ConcurrentHashMap;
+	import java.util.concurrent.ExecutionException;
+	import java.util.concurrent.ExecutorCompletionService;
 	import java.util.concurrent.ExecutorService;
 	import java.util.concurrent.Executors;
+	import java.util.concurrent.Future;
+	import java.util.concurrent.LinkedBlockingQueue;
+	import java.util.concurrent.RejectedExecutionException;
+	import java.util.concurrent.ScheduledExecutorService;
+	import java.util.concurrent.ThreadPoolExecutor;
 	import java.util.concurrent.TimeUnit;
+	import java.util.concurrent.TimeoutException;
+	import java.util.concurrent.atomic.AtomicInteger;
+	import java.util.concurrent.locks.Lock;
 	import java.util.concurrent.locks.ReentrantLock;
+	import java.util.function.Consumer;
 	import java.util.stream.Collectors;
 
 	import org.springframework.http.HttpHeaders;
 	import org.springframework.http.HttpMethod;
 	import org.springframework.util.CollectionUtils;
+	import org.springframework.web.client.RestClientResponseException;
 
+	import com.google.common.util.concurrent.Striped;
+	import com.fasterxml.jackson.core.JsonFactory;
 	import com.fasterxml.jackson.databind.JsonNode;
 	import com.fasterxml.jackson.databind.ObjectMapper;
+	import com.fasterxml.jackson.databind.ObjectReader;
 	import com.fasterxml.jackson.databind.node.ArrayNode;
 	import com.fasterxml.jackson.databind.node.ObjectNode;
 	import javax.security.auth.login.FailedLoginException;
 
 
 	import com.avispl.symphony.api.dal.control.Controller;
-	import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 	import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 	import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 	import com.avispl.symphony.api.dal.dto.monitor.Statistics;
@@ -45,14 +71,31 @@
 	import com.avispl.symphony.api.dal.monitor.Monitorable;
 	import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
 	import com.avispl.symphony.dal.communicator.RestCommunicator;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.AccessoryInfo;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.AccessoryKeyTable;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.AccessoryList;
 	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.AggregatedInformation;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.CachedValue;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.CollectionCycleMetrics;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.CollectionPartition;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.ControlTemplates;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.DeviceDetail;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.DeviceListPage;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.DiagnosisTracker;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.EndpointClass;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.HistoricalPropertyStore;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.LatencyHistogram;
 	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.LoginInfo;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.PartitionMode;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.RequestRateLimiter;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.ValueFormatter;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.YealinkAsyncTransport;
+	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.YealinkTokenManager;
 	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.Util;
 	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkCommand;
 	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkConstant;
 	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.metric.Accessory;
 	import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.metric.DeviceType;
-	import com.avispl.symphony.dal.util.ControllablePropertyFactory;
 	import com.avispl.symphony.dal.util.StringUtils;
 
 
@@ -98,6 +141,12 @@
 	 *     <li>Reboot</li>
 	 *     <li>ScreenCapture</li>
 	 *   </ul>
+	 *   Diagnosis group, for each started ExportLog, PacketCapture and ScreenCapture
+	 *   <ul>
+	 *     <li>LastUpdate</li>
+	 *     <li>Progress(%)</li>
+	 *     <li>Status</li>
+	 *   </ul>
 	 * </ul>
 	 *
 	 * @author Harry / Symphony Dev Team<br>
@@ -128,10 +177,11 @@
 		/**
 		 * We don't want the statistics to be collected constantly, because if there's not a big list of devices -
 		 * new devices' statistics loop will be launched before the next monitoring iteration. To avoid that -
-		 * this variable stores a timestamp which validates it, so when the devices' statistics is done collecting, variable
-		 * is set to currentTime + 30s, at the same time, calling {@link #retrieveMultipleStatistics()} and updating the
+		 * this variable stores a timestamp which validates it, so when a devices' statistics cycle starts, variable
+		 * is set to its start time + {@link YealinkConstant#COLLECTION_INTERVAL}. Calling {@link #retrieveMultipleStatistics()}
+		 * after the adapter was paused resets it, so collection resumes right away.
 		 */
-		private long nextDevicesCollectionIterationTimestamp;
+		private volatile long nextDevicesCollectionIterationTimestamp;
 
 		/**
 		 * This parameter holds timestamp of when we need to stop performing API calls
@@ -174,9 +224,52 @@
 		private ExecutorService executorService;
 
 		/**
-		 * the login info
+		 * Executor that fetches the pages of {@link YealinkCommand#GET_LIST_DEVICES} concurrently,
+		 * bounded by {@link YealinkConstant#MAX_PAGE_CONCURRENCY}
+		 */
+		private ExecutorService pageExecutorService;
+
+		/**
+		 * Worker pool that retrieves {@link YealinkCommand#GET_DEVICES_DETAIL} for the devices discovered by the list pages,
+		 * sized by {@link #detailFetchConcurrency}
+		 */
+		private ExecutorService detailExecutorService;
+
+		/**
+		 * Executor that runs the refresh of each {@link CollectionPartition}, bounded by {@link YealinkConstant#MAX_PARTITION_WORKERS}
+		 */
+		private ExecutorService partitionExecutorService;
+
+		/**
+		 * Non-blocking transport used by {@link YealinkCloudDataLoader} when {@link #asyncTransport} is enabled
+		 */
+		private volatile YealinkAsyncTransport asyncHttpTransport;
+
+		/**
+		 * Schedules the requests of {@link #asyncHttpTransport} that have to wait for their {@link RequestRateLimiter}
+		 */
+		private ScheduledExecutorService asyncRequestScheduler;
+
+		/**
+		 * Keeps the bearer token up to date in background and serves it to {@link #putExtraRequestHeaders(HttpMethod, String, HttpHeaders)}
+		 */
+		private final YealinkTokenManager tokenManager = new YealinkTokenManager(this::retrieveToken);
+
+		/**
+		 * Set when the data exposed on aggregated devices changed outside of a collection cycle, so
+		 * {@link YealinkCloudDataLoader} rebuilds {@link #aggregatedDeviceList} on its next iteration
+		 */
+		private volatile boolean aggregatedDeviceListOutdated;
+
+		/**
+		 * Formats the timestamps and text values of aggregated devices, in the zone set by {@link #setTimeZone(String)}
+		 */
+		private final ValueFormatter valueFormatter = new ValueFormatter();
+
+		/**
+		 * Tracks the diagnosis tasks started by PacketCapture, ExportLog and ScreenCapture and polls their status in background
 		 */
-		private LoginInfo loginInfo;
+		private final DiagnosisTracker diagnosisTracker = new DiagnosisTracker(this::retrieveDiagnosisStatus, () -> aggregatedDeviceListOutdated = true, valueFormatter);
 
 		/**
 		 * A private field that represents an instance of the YealinkCloudLoader class, which is responsible for loading device data for YealinkCloud
@@ -190,6 +283,12 @@
 		 */
 		private final ReentrantLock reentrantLock = new ReentrantLock();
 
+		/**
+		 * Per-device locks used by {@link #controlProperty(ControllableProperty)}, so controls on the same device are serialized
+		 * while controls on different devices run in parallel
+		 */
+		private final Striped<Lock> deviceControlLocks = Striped.lock(YealinkConstant.CONTROL_LOCK_STRIPES);
+
 		/**
 		 * Private variable representing the local extended statistics.
 		 */
@@ -201,21 +300,48 @@
 		private final Map<String, String> cacheValue = new HashMap<>();
 
 		/**
-		 * List of aggregated device
+		 * List of aggregated device, rebuilt once per collection cycle by {@link #cloneAndPopulateAggregatedDeviceList()}
+		 * and published as an immutable list, so {@link #retrieveMultipleStatistics()} can return it as is
+		 */
+		private volatile List<AggregatedDevice> aggregatedDeviceList = Collections.emptyList();
+
+		/**
+		 * Hash index of {@link #aggregatedDeviceList} by device id, published together with the list
 		 */
-		private final List<AggregatedDevice> aggregatedDeviceList = Collections.synchronizedList(new ArrayList<>());
+		private volatile Map<String, AggregatedDevice> aggregatedDeviceIndex = Collections.emptyMap();
 
 		/**
-		 * Cached data
+		 * Cached data. Each collection cycle builds a new generation of immutable per-device maps and publishes it
+		 * with a single reference swap, so readers always see a complete generation without locking.
 		 */
-		private final Map<String, Map<String, String>> cachedMonitoringDevice = Collections.synchronizedMap(new HashMap<>());
+		private volatile Map<String, Map<String, String>> cachedMonitoringDevice = Collections.emptyMap();
 
 		/**
-		 * save time get token
+		 * Accessory properties of each device, collected by {@link YealinkCloudDataLoader} and refreshed after {@link #accessoryCacheTtl}
 		 */
-		private Long tokenExpire;
+		private final Map<String, CachedValue<Map<String, String>>> cachedAccessories = new ConcurrentHashMap<>();
 
-		private static final long TOKEN_SKEW_MS = TimeUnit.SECONDS.toMillis(30);
+		/**
+		 * Statistics keys of accessory properties by model name, shared by every device of {@link #cachedAccessories}
+		 */
+		private final AccessoryKeyTable accessoryKeyTable = new AccessoryKeyTable();
+
+		/**
+		 * Primary network interface of each device used by PacketCapture, collected by {@link YealinkCloudDataLoader} while
+		 * controls are enabled and refreshed after {@link YealinkConstant#NETWORK_INTERFACE_CACHE_TTL}
+		 */
+		private final Map<String, CachedValue<String>> cachedNetworkInterfaces = new ConcurrentHashMap<>();
+
+		/**
+		 * Result of the last reboot of each device, published as {@link YealinkConstant#REBOOT} group properties
+		 */
+		private final Map<String, Map<String, String>> rebootResults = new ConcurrentHashMap<>();
+
+		/**
+		 * Total number of devices, taken from the {@code autoCount} total of the device list, or from
+		 * {@link YealinkCommand#GET_DEVICE_COUNT} when the list response has no total
+		 */
+		private volatile CachedValue<String> cachedDevicesTotal;
 
 		/**
 		 * Device type filter used in Yealink API requests (sent as {@code filter.deviceType}).
@@ -265,6 +391,354 @@
 			this.packetCaptureDuration = packetCaptureDuration;
 		}
 
+		/**
+		 * Number of device detail requests that are allowed to run concurrently during a collection cycle
+		 */
+		private int detailFetchConcurrency = YealinkConstant.DEFAULT_DETAIL_CONCURRENCY;
+
+		/**
+		 * Retrieves {@link #detailFetchConcurrency}
+		 *
+		 * @return value of {@link #detailFetchConcurrency}
+		 */
+		public int getDetailFetchConcurrency() {
+			return detailFetchConcurrency;
+		}
+
+		/**
+		 * Sets {@link #detailFetchConcurrency} value, clamped to [1, {@link YealinkConstant#MAX_DETAIL_CONCURRENCY}].
+		 * A running {@link #detailExecutorService} is resized right away, queued requests are kept.
+		 *
+		 * @param detailFetchConcurrency new value of {@link #detailFetchConcurrency}
+		 */
+		public void setDetailFetchConcurrency(int detailFetchConcurrency) {
+			this.detailFetchConcurrency = Math.max(1, Math.min(detailFetchConcurrency, YealinkConstant.MAX_DETAIL_CONCURRENCY));
+			ExecutorService executor = detailExecutorService;
+			if (executor instanceof ThreadPoolExecutor) {
+				resizePool((ThreadPoolExecutor) executor, this.detailFetchConcurrency);
+			}
+		}
+
+		/**
+		 * Resizes a fixed thread pool. The maximum size is raised before the core size and lowered after it, so the core size
+		 * never exceeds the maximum size.
+		 *
+		 * @param pool pool created by {@link Executors#newFixedThreadPool(int)}
+		 * @param size new number of threads
+		 */
+		private static void resizePool(ThreadPoolExecutor pool, int size) {
+			if (size > pool.getMaximumPoolSize()) {
+				pool.setMaximumPoolSize(size);
+				pool.setCorePoolSize(size);
+			} else {
+				pool.setCorePoolSize(size);
+				pool.setMaximumPoolSize(size);
+			}
+		}
+
+		/**
+		 * Time to live of the accessories of a device in {@link #cachedAccessories}, in seconds
+		 */
+		private long accessoryCacheTtl = YealinkConstant.DEFAULT_ACCESSORY_CACHE_TTL;
+
+		/**
+		 * Retrieves {@link #accessoryCacheTtl}
+		 *
+		 * @return value of {@link #accessoryCacheTtl}
+		 */
+		public long getAccessoryCacheTtl() {
+			return accessoryCacheTtl;
+		}
+
+		/**
+		 * Sets {@link #accessoryCacheTtl} value
+		 *
+		 * @param accessoryCacheTtl new value of {@link #accessoryCacheTtl}
+		 */
+		public void setAccessoryCacheTtl(long accessoryCacheTtl) {
+			this.accessoryCacheTtl = Math.max(0, accessoryCacheTtl);
+		}
+
+		/**
+		 * Enable/disable incremental polling: when enabled, device detail and accessories are only retrieved for devices
+		 * that are new or whose {@code lastReportTime} or {@code deviceStatus} changed in the device list
+		 */
+		private boolean incrementalPolling = true;
+
+		/**
+		 * Retrieves {@link #incrementalPolling}
+		 *
+		 * @return value of {@link #incrementalPolling}
+		 */
+		public boolean isIncrementalPolling() {
+			return incrementalPolling;
+		}
+
+		/**
+		 * Sets {@link #incrementalPolling} value
+		 *
+		 * @param incrementalPolling new value of {@link #incrementalPolling}
+		 */
+		public void setIncrementalPolling(boolean incrementalPolling) {
+			this.incrementalPolling = incrementalPolling;
+		}
+
+		/**
+		 * How the listed devices are split into {@link #collectionPartitions}. With {@link PartitionMode#NONE}, every device is
+		 * refreshed by the collection cycle that walked the list.
+		 */
+		private volatile PartitionMode partitionMode = PartitionMode.NONE;
+
+		/**
+		 * Retrieves {@link #partitionMode}
+		 *
+		 * @return name of {@link #partitionMode}
+		 */
+		public String getPartitionMode() {
+			return partitionMode.getName();
+		}
+
+		/**
+		 * Sets {@link #partitionMode} value: {@code None}, {@code Site} or {@code Hash}. An unknown mode is logged and
+		 * partitioning is disabled.
+		 *
+		 * @param partitionMode name of the new mode
+		 */
+		public void setPartitionMode(String partitionMode) {
+			PartitionMode mode = partitionMode == null ? null : PartitionMode.fromName(partitionMode.trim());
+			if (mode == null) {
+				logger.warn(String.format("Invalid partitionMode %s, partitioning is disabled", partitionMode));
+				mode = PartitionMode.NONE;
+			}
+			this.partitionMode = mode;
+		}
+
+		/**
+		 * Number of partitions of {@link PartitionMode#HASH}
+		 */
+		private volatile int partitionCount = YealinkConstant.DEFAULT_PARTITION_COUNT;
+
+		/**
+		 * Retrieves {@link #partitionCount}
+		 *
+		 * @return value of {@link #partitionCount}
+		 */
+		public int getPartitionCount() {
+			return partitionCount;
+		}
+
+		/**
+		 * Sets {@link #partitionCount} value, clamped to [1, {@link YealinkConstant#MAX_PARTITION_WORKERS}]
+		 *
+		 * @param partitionCount new value of {@link #partitionCount}
+		 */
+		public void setPartitionCount(int partitionCount) {
+			this.partitionCount = Math.max(1, Math.min(partitionCount, YealinkConstant.MAX_PARTITION_WORKERS));
+		}
+
+		/**
+		 * Partitions of the listed devices by key, assigned by {@link #populatePartitions(PartitionMode)} while
+		 * {@link #partitionMode} is not {@link PartitionMode#NONE}
+		 */
+		private final Map<String, CollectionPartition> collectionPartitions = new ConcurrentHashMap<>();
+
+		/**
+		 * Ids of the devices returned by the last complete walk of the list in partitioned mode
+		 */
+		private volatile Set<String> partitionedDevices = Collections.emptySet();
+
+		/**
+		 * Number of partitions started by {@link #dispatchDuePartitions()} whose refresh is not finished yet, queued ones included.
+		 * Each of them gets an equal share of {@link #detailFetchConcurrency}, see {@link #refreshPartition(CollectionPartition)}.
+		 */
+		private final AtomicInteger runningPartitions = new AtomicInteger();
+
+		/**
+		 * Keys of the partitions that finished a refresh since {@link #aggregatedDeviceList} was last published,
+		 * see {@link #isPartitionRebuildDue()}
+		 */
+		private final Set<String> refreshedPartitions = ConcurrentHashMap.newKeySet();
+
+		/**
+		 * Serializes the publications of {@link #cachedMonitoringDevice} made by the partition refreshes and the list walk
+		 */
+		private final ReentrantLock generationLock = new ReentrantLock();
+
+		/**
+		 * Request rates set by {@link #setRequestRateLimits(String)}, classes that are not listed use their default rate
+		 */
+		private volatile Map<EndpointClass, Double> configuredRequestRates = Collections.emptyMap();
+
+		/**
+		 * Token buckets pacing the requests of each {@link EndpointClass}, rebuilt when {@link #setRequestRateLimits(String)} is called
+		 */
+		private volatile Map<EndpointClass, RequestRateLimiter> rateLimiters = createRateLimiters(Collections.emptyMap());
+
+		/**
+		 * Latency of the requests of each {@link EndpointClass} over a rolling window, published by {@link #retrieveMetadata(Map, Map)}
+		 */
+		private final Map<EndpointClass, LatencyHistogram> latencyHistograms = createLatencyHistograms();
+
+		/**
+		 * Metrics of the collection cycle in progress, or of the last one if no cycle is running
+		 */
+		private volatile CollectionCycleMetrics currentCycle;
+
+		/**
+		 * Metrics of the last finished collection cycle
+		 */
+		private volatile CollectionCycleMetrics lastCycle;
+
+		/**
+		 * Time {@link #aggregatedDeviceList} was last published, 0 before the first publication
+		 */
+		private volatile long snapshotTimestamp;
+
+		/**
+		 * Retrieves the maximum request rate of each endpoint class
+		 *
+		 * @return comma separated {@code name:requestsPerSecond} pairs
+		 */
+		public String getRequestRateLimits() {
+			return rateLimiters.entrySet().stream()
+					.map(entry -> entry.getKey().getName() + ":" + entry.getValue().getMaxRate())
+					.collect(Collectors.joining(","));
+		}
+
+		/**
+		 * Sets the maximum request rate of endpoint classes, as comma separated {@code name:requestsPerSecond} pairs
+		 * such as {@code List:10,Detail:100,ListParts:100,Control:10}. Classes that are not listed keep their default rate,
+		 * see {@link EndpointClass#getDefaultRate()}, invalid entries are ignored. The defaults do not grow with the fleet, so
+		 * a large fleet takes longer to collect unless the tenant is known to allow higher rates.
+		 *
+		 * @param requestRateLimits new request rates
+		 */
+		public void setRequestRateLimits(String requestRateLimits) {
+			Map<EndpointClass, Double> rates = new EnumMap<>(EndpointClass.class);
+			if (requestRateLimits != null) {
+				for (String entry : requestRateLimits.split(",")) {
+					String[] pair = entry.split(":");
+					EndpointClass endpointClass = pair.length == 2 ? EndpointClass.fromName(pair[0].trim()) : null;
+					if (endpointClass == null) {
+						continue;
+					}
+					try {
+						double rate = Double.parseDouble(pair[1].trim());
+						if (rate > 0) {
+							rates.put(endpointClass, rate);
+						}
+					} catch (NumberFormatException e) {
+						logger.warn(String.format("Invalid request rate limit: %s", entry));
+					}
+				}
+			}
+			configuredRequestRates = Collections.unmodifiableMap(rates);
+			rateLimiters = createRateLimiters(configuredRequestRates);
+		}
+
+		/**
+		 * Enable/disable the non-blocking transport for the requests of {@link YealinkCloudDataLoader}: device list pages,
+		 * device detail, accessories and network interfaces. Controls always use the blocking requests.
+		 */
+		private boolean asyncTransport = false;
+
+		/**
+		 * Retrieves {@link #asyncTransport}
+		 *
+		 * @return value of {@link #asyncTransport}
+		 */
+		public boolean isAsyncTransport() {
+			return asyncTransport;
+		}
+
+		/**
+		 * Sets {@link #asyncTransport} value
+		 *
+		 * @param asyncTransport new value of {@link #asyncTransport}
+		 */
+		public void setAsyncTransport(boolean asyncTransport) {
+			this.asyncTransport = asyncTransport;
+			asyncTransportOutdated = true;
+		}
+
+		/**
+		 * Set when a setting of the non-blocking transport changed, so {@link YealinkCloudDataLoader} restarts
+		 * {@link #asyncHttpTransport} with the new settings before its next collection cycle
+		 */
+		private volatile boolean asyncTransportOutdated;
+
+		/**
+		 * Maximum number of pooled connections of the non-blocking transport
+		 */
+		private int asyncMaxConnections = YealinkConstant.DEFAULT_ASYNC_MAX_CONNECTIONS;
+
+		/**
+		 * Retrieves {@link #asyncMaxConnections}
+		 *
+		 * @return value of {@link #asyncMaxConnections}
+		 */
+		public int getAsyncMaxConnections() {
+			return asyncMaxConnections;
+		}
+
+		/**
+		 * Sets {@link #asyncMaxConnections} value
+		 *
+		 * @param asyncMaxConnections new value of {@link #asyncMaxConnections}
+		 */
+		public void setAsyncMaxConnections(int asyncMaxConnections) {
+			this.asyncMaxConnections = Math.max(1, asyncMaxConnections);
+			asyncTransportOutdated = true;
+		}
+
+		/**
+		 * Connect timeout of the non-blocking transport, in milliseconds
+		 */
+		private int asyncConnectTimeout = YealinkConstant.DEFAULT_ASYNC_CONNECT_TIMEOUT;
+
+		/**
+		 * Retrieves {@link #asyncConnectTimeout}
+		 *
+		 * @return value of {@link #asyncConnectTimeout}
+		 */
+		public int getAsyncConnectTimeout() {
+			return asyncConnectTimeout;
+		}
+
+		/**
+		 * Sets {@link #asyncConnectTimeout} value
+		 *
+		 * @param asyncConnectTimeout new value of {@link #asyncConnectTimeout}
+		 */
+		public void setAsyncConnectTimeout(int asyncConnectTimeout) {
+			this.asyncConnectTimeout = Math.max(1, asyncConnectTimeout);
+			asyncTransportOutdated = true;
+		}
+
+		/**
+		 * Response timeout of the non-blocking transport, in milliseconds
+		 */
+		private int asyncResponseTimeout = YealinkConstant.DEFAULT_ASYNC_RESPONSE_TIMEOUT;
+
+		/**
+		 * Retrieves {@link #asyncResponseTimeout}
+		 *
+		 * @return value of {@link #asyncResponseTimeout}
+		 */
+		public int getAsyncResponseTimeout() {
+			return asyncResponseTimeout;
+		}
+
+		/**
+		 * Sets {@link #asyncResponseTimeout} value
+		 *
+		 * @param asyncResponseTimeout new value of {@link #asyncResponseTimeout}
+		 */
+		public void setAsyncResponseTimeout(int asyncResponseTimeout) {
+			this.asyncResponseTimeout = Math.max(1, asyncResponseTimeout);
+			asyncTransportOutdated = true;
+		}
+
 		/**
 		 * Retrieves {@link #configManagement}
 		 *
@@ -283,6 +757,29 @@
 			this.configManagement = configManagement;
 		}
 
+		/**
+		 * Retrieves the zone of the timestamps exposed on aggregated devices
+		 *
+		 * @return id of the zone
+		 */
+		public String getTimeZone() {
+			return valueFormatter.getZone().getId();
+		}
+
+		/**
+		 * Sets the zone of the timestamps exposed on aggregated devices, such as {@code UTC} or {@code Asia/Ho_Chi_Minh}.
+		 * An invalid zone is logged and the current zone is kept.
+		 *
+		 * @param timeZone id of the new zone
+		 */
+		public void setTimeZone(String timeZone) {
+			try {
+				valueFormatter.setZone(ZoneId.of(timeZone.trim()));
+			} catch (Exception e) {
+				logger.warn(String.format("Invalid timeZone %s, keeping %s", timeZone, valueFormatter.getZone().getId()), e);
+			}
+		}
+
 		/**
 		 * A mapper for reading and writing JSON using Jackson library.
 		 * ObjectMapper provides functionality for converting between Java objects and JSON.
@@ -290,9 +787,18 @@
 		 */
 		ObjectMapper objectMapper = new ObjectMapper();
 
+		/**
+		 * Reader of {@link YealinkCommand#GET_DEVICES_DETAIL} responses, bound once to {@link DeviceDetail}
+		 */
+		private final ObjectReader deviceDetailReader = objectMapper.readerFor(DeviceDetail.class);
+
+		/**
+		 * Reader of {@link YealinkCommand#GET_LIST_ACCESSORY} responses, bound once to {@link AccessoryList}
+		 */
+		private final ObjectReader accessoryListReader = objectMapper.readerFor(AccessoryList.class);
+
 		class YealinkCloudDataLoader implements Runnable {
 			private volatile boolean inProgress;
-			private volatile boolean dataFetchCompleted = false;
 
 			public YealinkCloudDataLoader() {
 				inProgress = true;
@@ -302,7 +808,6 @@
 			public void run() {
 				loop:
 				while (inProgress) {
-					long startCycle = System.currentTimeMillis();
 					try {
 						try {
 							TimeUnit.MILLISECONDS.sleep(500);
@@ -314,38 +819,43 @@
 							break loop;
 						}
 
+						if (aggregatedDeviceListOutdated || isPartitionRebuildDue()) {
+							aggregatedDeviceListOutdated = false;
+							refreshedPartitions.clear();
+							cloneAndPopulateAggregatedDeviceList();
+						}
+
 						// next line will determine whether DT Studio monitoring was paused
 						updateAggregatorStatus();
 						if (devicePaused) {
 							continue loop;
 						}
+						PartitionMode mode = partitionMode;
+						if (mode != PartitionMode.NONE) {
+							dispatchDuePartitions();
+						}
+						if (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
+							continue loop;
+						}
 						if (logger.isDebugEnabled()) {
 							logger.debug("Fetching other than aggregated device list");
 						}
 
-						long currentTimestamp = System.currentTimeMillis();
-						if (!dataFetchCompleted && nextDevicesCollectionIterationTimestamp <= currentTimestamp) {
+						long startCycle = System.currentTimeMillis();
+						nextDevicesCollectionIterationTimestamp = startCycle + YealinkConstant.COLLECTION_INTERVAL;
+						applyAsyncTransportSettings();
+						if (mode != PartitionMode.NONE) {
+							populatePartitions(mode);
+						} else {
 							populateListDevice();
-							dataFetchCompleted = true;
-						}
-
-						while (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
-							try {
-								TimeUnit.MILLISECONDS.sleep(1000);
-							} catch (InterruptedException e) {
-								logger.info(String.format("Sleep for 1 second was interrupted with error message: %s", e.getMessage()));
-							}
 						}
 
 						if (!inProgress) {
 							break loop;
 						}
-						nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + 30000;
 						lastMonitoringCycleDuration = (System.currentTimeMillis() - startCycle) / 1000;
-						logger.debug("Finished collecting devices statistics cycle at " + new Date() + ", total duration: " + lastMonitoringCycleDuration);
-
 						if (logger.isDebugEnabled()) {
-							logger.debug("Finished collecting devices statistics cycle at " + new Date());
+							logger.debug("Finished collecting devices statistics cycle at " + new Date() + ", total duration: " + lastMonitoringCycleDuration);
 						}
 					} catch (Exception e) {
 						logger.error("Unexpected error occurred during main device collection cycle", e);
@@ -364,9 +874,23 @@
 		}
 
 		/**
-		 * Configurable property for historical properties, comma separated values kept as set locally
+		 * Configurable property for historical properties, comma separated values kept as set locally.
+		 * Each value is the full statistics name of a property, such as {@code Diagnosis_ExportLog#Progress(%)}. Numeric values
+		 * of these properties are exposed as dynamic statistics of the aggregated devices, with their minimum, average and
+		 * maximum over the last {@link #historySize} samples.
+		 */
+		private final Set<String> historicalProperties = new LinkedHashSet<>();
+
+		/**
+		 * Number of samples kept for each historical property of each device
 		 */
-		private final Set<String> historicalProperties = new HashSet<>();
+		private int historySize = YealinkConstant.DEFAULT_HISTORY_SIZE;
+
+		/**
+		 * History of {@link #historicalProperties}, sampled each time {@link #aggregatedDeviceList} is published.
+		 * Null while no historical property is configured, replaced when {@link #historicalProperties} or {@link #historySize} changes.
+		 */
+		private volatile HistoricalPropertyStore historicalPropertyStore;
 
 		/**
 		 * Retrieves {@link #historicalProperties}
@@ -378,15 +902,51 @@
 		}
 
 		/**
-		 * Sets {@link #historicalProperties} value
+		 * Sets {@link #historicalProperties} value, null clears it
 		 *
 		 * @param historicalProperties new value of {@link #historicalProperties}
 		 */
 		public void setHistoricalProperties(String historicalProperties) {
 			this.historicalProperties.clear();
-			Arrays.asList(historicalProperties.split(",")).forEach(propertyName -> {
-				this.historicalProperties.add(propertyName.trim());
-			});
+			if (historicalProperties != null) {
+				Arrays.asList(historicalProperties.split(",")).forEach(propertyName -> {
+					if (!propertyName.trim().isEmpty()) {
+						this.historicalProperties.add(propertyName.trim());
+					}
+				});
+			}
+			historicalPropertyStore = createHistoricalPropertyStore();
+		}
+
+		/**
+		 * Retrieves {@link #historySize}
+		 *
+		 * @return value of {@link #historySize}
+		 */
+		public int getHistorySize() {
+			return historySize;
+		}
+
+		/**
+		 * Sets {@link #historySize} value, clamped to [1, {@link YealinkConstant#MAX_HISTORY_SIZE}].
+		 * The history retained for all devices is bounded by {@link YealinkConstant#HISTORY_MEMORY_BUDGET}: when historySize
+		 * samples of each property no longer fit it for the aggregated fleet, {@link #historicalPropertyStore} keeps fewer samples.
+		 *
+		 * @param historySize new value of {@link #historySize}
+		 */
+		public void setHistorySize(int historySize) {
+			this.historySize = Math.max(1, Math.min(historySize, YealinkConstant.MAX_HISTORY_SIZE));
+			historicalPropertyStore = createHistoricalPropertyStore();
+		}
+
+		/**
+		 * Creates the store of {@link #historicalProperties}
+		 *
+		 * @return a new store, or null if no historical property is configured
+		 */
+		private HistoricalPropertyStore createHistoricalPropertyStore() {
+			return historicalProperties.isEmpty() ? null
+					: new HistoricalPropertyStore(historicalProperties, historySize, YealinkConstant.HISTORY_MEMORY_BUDGET);
 		}
 
 		/**
@@ -406,41 +966,45 @@
 		 */
 		@Override
 		public void controlProperty(ControllableProperty cp) {
-			reentrantLock.lock();
 			String property = cp.getProperty();
 			String deviceId = cp.getDeviceId();
 			String[] parts = property.split(YealinkConstant.HASH);
 			String key = property.contains(YealinkConstant.HASH) ? parts[1] : property;
 
+			if (deviceId == null || !aggregatedDeviceIndex.containsKey(deviceId)) {
+				throw new IllegalStateException(String.format("Unable to control property: %s as the device does not exist.", property));
+			}
+			Lock deviceLock = deviceControlLocks.get(deviceId);
+			deviceLock.lock();
 			try{
-				boolean exists = aggregatedDeviceList.stream().anyMatch(d -> d.getDeviceId().equals(deviceId));
-				if (!exists) throw new IllegalStateException(String.format("Unable to control property: %s as the device does not exist.", property));
-
 				String request;
 				switch (key) {
 						case YealinkConstant.REBOOT:
-							String code = deviceTypeFilter;
-							ObjectNode payload = objectMapper.createObjectNode();
-							ArrayNode idsNode = payload.putArray("deviceIds");
-							idsNode.add(cp.getDeviceId().trim());
-							payload.put(YealinkConstant.DEVICE_TYPE, !YealinkConstant.EMPTY.equals(code) ? deviceTypeFilter : YealinkConstant.DEFAULT_TYPE_TO_REBOOT);
-							doPost(YealinkCommand.REBOOT_URI, payload, JsonNode.class);
+							String rebootId = deviceId.trim();
+							boolean rebootFailed = !rebootDevices(resolveRebootDeviceType(deviceId), Collections.singletonList(rebootId)).isEmpty();
+							recordRebootResult(rebootId, !rebootFailed);
+							if (rebootFailed) {
+								throw new IllegalArgumentException(String.format("Unable to reboot device %s", rebootId));
+							}
 							break;
 						case YealinkConstant.PACKET_CAPTURE:
-							payload = objectMapper.createObjectNode();
+							checkDiagnosisNotInProgress(deviceId, key, property);
+							ObjectNode payload = objectMapper.createObjectNode();
 							payload.put("networkInterface", getNetWorkInterface(deviceId));
 							payload.put("type", 3);
 							payload.put("duration", String.valueOf(packetCaptureDuration));
 							request = String.format(YealinkCommand.PACKET_CAPTURE_URI, deviceId);
-							putAndCheck(request, payload, property);
+							diagnosisTracker.track(deviceId, key, extractDiagnosisId(putAndCheck(request, payload, property)));
 							break;
 						case YealinkConstant.EXPORT_LOG:
+							checkDiagnosisNotInProgress(deviceId, key, property);
 							request = String.format(YealinkCommand.EXPORT_LOG_URI, deviceId);
-							putAndCheck(request, Collections.emptyMap(), property);
+							diagnosisTracker.track(deviceId, key, extractDiagnosisId(putAndCheck(request, Collections.emptyMap(), property)));
 							break;
 						case YealinkConstant.SCREEN_CAPTURE:
+							checkDiagnosisNotInProgress(deviceId, key, property);
 							request = String.format(YealinkCommand.SCREEN_CAPTURE_URI, deviceId);
-							putAndCheck(request, Collections.emptyMap(), property);
+							diagnosisTracker.track(deviceId, key, extractDiagnosisId(putAndCheck(request, Collections.emptyMap(), property)));
 							break;
 						default:
 							if (logger.isWarnEnabled()) {
@@ -467,25 +1031,45 @@
 				throw new IllegalArgumentException("Failed to control property '" + property + "': " + e.getMessage(), e);
 			}
 			finally {
-				reentrantLock.unlock();
+				deviceLock.unlock();
 			}
 		}
 
 		/**
 		 * {@inheritDoc}
+		 * Reboot commands on known devices are grouped by device type and sent as multi-device requests of up to
+		 * {@link YealinkConstant#REBOOT_BATCH_SIZE} devices. Other commands are executed one by one; pending reboots are sent
+		 * first when a command targets a device with a pending reboot, so the commands of each device keep their order.
+		 * The result of each reboot is published as {@link YealinkConstant#REBOOT} properties of the device.
 		 */
 		@Override
 		public void controlProperties(List<ControllableProperty> controllableProperties) {
 			if (CollectionUtils.isEmpty(controllableProperties)) {
 				throw new IllegalArgumentException("ControllableProperties can not be null or empty");
 			}
+			Map<String, Set<String>> rebootsByDeviceType = new LinkedHashMap<>();
+			Set<String> pendingReboots = new HashSet<>();
 			for (ControllableProperty p : controllableProperties) {
+				String property = p.getProperty();
+				String deviceId = p.getDeviceId();
+				String key = property != null && property.contains(YealinkConstant.HASH) ? property.split(YealinkConstant.HASH)[1] : property;
+				if (YealinkConstant.REBOOT.equals(key) && deviceId != null && aggregatedDeviceIndex.containsKey(deviceId)) {
+					rebootsByDeviceType.computeIfAbsent(resolveRebootDeviceType(deviceId), type -> new LinkedHashSet<>()).add(deviceId.trim());
+					pendingReboots.add(deviceId.trim());
+					continue;
+				}
+				if (deviceId != null && pendingReboots.contains(deviceId.trim())) {
+					rebootsByDeviceType.forEach(this::rebootInBatches);
+					rebootsByDeviceType.clear();
+					pendingReboots.clear();
+				}
 				try {
 					controlProperty(p);
 				} catch (Exception e) {
 					logger.error(String.format("Error when control property %s", p.getProperty()), e);
 				}
 			}
+			rebootsByDeviceType.forEach(this::rebootInBatches);
 		}
 
 		/**
@@ -493,9 +1077,12 @@
 		 */
 		@Override
 		public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-			return retrieveMultipleStatistics()
-					.stream()
-					.filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId()))
+			retrieveMultipleStatistics();
+			Map<String, AggregatedDevice> index = aggregatedDeviceIndex;
+			return list.stream()
+					.distinct()
+					.map(index::get)
+					.filter(Objects::nonNull)
 					.collect(Collectors.toList());
 		}
 
@@ -511,12 +1098,20 @@
 				executorService = Executors.newFixedThreadPool(1);
 				executorService.submit(deviceDataLoader = new YealinkCloudDataLoader());
 			}
-			nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
-			updateValidRetrieveStatisticsTimestamp();
-			if (cachedMonitoringDevice.isEmpty()) {
-				return Collections.emptyList();
+			if (pageExecutorService == null) {
+				pageExecutorService = Executors.newFixedThreadPool(YealinkConstant.MAX_PAGE_CONCURRENCY);
+			}
+			if (detailExecutorService == null) {
+				detailExecutorService = Executors.newFixedThreadPool(detailFetchConcurrency);
 			}
-			return cloneAndPopulateAggregatedDeviceList();
+			if (partitionExecutorService == null) {
+				partitionExecutorService = Executors.newFixedThreadPool(YealinkConstant.MAX_PARTITION_WORKERS);
+			}
+			if (devicePaused) {
+				nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
+			}
+			updateValidRetrieveStatisticsTimestamp();
+			return aggregatedDeviceList;
 		}
 
 		/**
@@ -524,14 +1119,11 @@
 		 */
 		@Override
 		public List<Statistics> getMultipleStatistics() throws Exception {
+			if (checkValidApiToken()) {
+				throw new ResourceNotReachableException("API Token cannot be null or empty, please enter valid API token in the password and username field.");
+			}
 			reentrantLock.lock();
 			try {
-				if (loginInfo == null) {
-					loginInfo = new LoginInfo();
-				}
-				if (checkValidApiToken()) {
-					throw new ResourceNotReachableException("API Token cannot be null or empty, please enter valid API token in the password and username field.");
-				}
 				Map<String, String> stats = new HashMap<>();
 				Map<String, String> dynamicStatistics = new HashMap<>();
 				ExtendedStatistics extendedStatistics = new ExtendedStatistics();
@@ -558,11 +1150,242 @@
 			if (uri.contains(YealinkCommand.GET_AUTH)) {
 				headers.setBasicAuth(this.getLogin(), this.getPassword());
 			} else {
-				headers.setBearerAuth(loginInfo.getAccessToken());
+				String accessToken = tokenManager.getAccessToken();
+				if (accessToken != null) {
+					headers.setBearerAuth(accessToken);
+				}
 			}
 			return headers;
 		}
-		
+
+		/**
+		 * {@inheritDoc}
+		 * The request is paced and retried by {@link #executeWithRateLimit(HttpMethod, String, Callable)}
+		 */
+		@Override
+		protected <Response> Response doGet(String uri, Class<Response> responseClass) throws Exception {
+			return executeWithRateLimit(HttpMethod.GET, uri, () -> super.doGet(uri, responseClass));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * The request is paced and retried by {@link #executeWithRateLimit(HttpMethod, String, Callable)}
+		 */
+		@Override
+		protected <Request, Response> Response doPost(String uri, Request data, Class<Response> responseClass) throws Exception {
+			return executeWithRateLimit(HttpMethod.POST, uri, () -> super.doPost(uri, data, responseClass));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * The request is paced and retried by {@link #executeWithRateLimit(HttpMethod, String, Callable)}
+		 */
+		@Override
+		protected <Request, Response> Response doPut(String uri, Request data, Class<Response> responseClass) throws Exception {
+			return executeWithRateLimit(HttpMethod.PUT, uri, () -> super.doPut(uri, data, responseClass));
+		}
+
+		/**
+		 * Sends a request once the {@link RequestRateLimiter} of its {@link EndpointClass} allows it, and retries it as decided by
+		 * {@link #handleRequestFailure(EndpointClass, RequestRateLimiter, HttpMethod, String, Throwable, int)}.
+		 * The latency of every attempt is recorded in {@link #latencyHistograms}.
+		 *
+		 * @param method HTTP method of the request
+		 * @param uri relative uri of the request
+		 * @param request sends the request
+		 * @return the response of the request
+		 * @throws Exception if the request fails, or is still throttled after the last retry
+		 */
+		private <T> T executeWithRateLimit(HttpMethod method, String uri, Callable<T> request) throws Exception {
+			EndpointClass endpointClass = EndpointClass.fromRequest(method, uri);
+			RequestRateLimiter rateLimiter = rateLimiters.get(endpointClass);
+			LatencyHistogram latencyHistogram = latencyHistograms.get(endpointClass);
+			for (int attempt = 0; ; attempt++) {
+				rateLimiter.acquire();
+				long startNanos = System.nanoTime();
+				try {
+					T response = request.call();
+					latencyHistogram.record(System.nanoTime() - startNanos, false);
+					rateLimiter.onSuccess();
+					return response;
+				} catch (Exception e) {
+					latencyHistogram.record(System.nanoTime() - startNanos, true);
+					if (handleRequestFailure(endpointClass, rateLimiter, method, uri, e, attempt) < 0) {
+						throw e;
+					}
+				}
+			}
+		}
+
+		/**
+		 * Sends a request of {@link YealinkCloudDataLoader} through {@link #asyncHttpTransport}, with the same pacing and retries
+		 * as {@link #executeWithRateLimit(HttpMethod, String, Callable)}. Waiting for the rate limiter and for retries is scheduled
+		 * on {@link #asyncRequestScheduler}, so no thread is blocked.
+		 *
+		 * @param method HTTP method of the request
+		 * @param uri relative uri of the request
+		 * @param body request body, or null for none
+		 * @return future of the response
+		 */
+		private CompletableFuture<JsonNode> sendAsync(HttpMethod method, String uri, Object body) {
+			return sendAsync(method, uri, body, objectMapper::readTree);
+		}
+
+		/**
+		 * Sends a request of {@link YealinkCloudDataLoader} through {@link #asyncHttpTransport}, see {@link #sendAsync(HttpMethod, String, Object)}.
+		 *
+		 * @param method HTTP method of the request
+		 * @param uri relative uri of the request
+		 * @param body request body, or null for none
+		 * @param responseParser parses the body of the response
+		 * @return future of the parsed response
+		 */
+		private <T> CompletableFuture<T> sendAsync(HttpMethod method, String uri, Object body, YealinkAsyncTransport.ResponseParser<T> responseParser) {
+			CompletableFuture<T> result = new CompletableFuture<>();
+			sendAsync(method, uri, body, responseParser, 0, result);
+			return result;
+		}
+
+		/**
+		 * Sends an attempt of a request through {@link #asyncHttpTransport} once its {@link RequestRateLimiter} allows it.
+		 *
+		 * @param method HTTP method of the request
+		 * @param uri relative uri of the request
+		 * @param body request body, or null for none
+		 * @param responseParser parses the body of the response
+		 * @param attempt zero-based attempt
+		 * @param result completed with the response, or the failure of the last attempt
+		 */
+		private <T> void sendAsync(HttpMethod method, String uri, Object body, YealinkAsyncTransport.ResponseParser<T> responseParser, int attempt,
+				CompletableFuture<T> result) {
+			YealinkAsyncTransport transport = asyncHttpTransport;
+			ScheduledExecutorService scheduler = asyncRequestScheduler;
+			if (transport == null || scheduler == null || result.isDone()) {
+				result.completeExceptionally(new IllegalStateException("The asynchronous transport is stopped"));
+				return;
+			}
+			EndpointClass endpointClass = EndpointClass.fromRequest(method, uri);
+			RequestRateLimiter rateLimiter = rateLimiters.get(endpointClass);
+			try {
+				long waitNanos = rateLimiter.tryReserve();
+				if (waitNanos > 0) {
+					scheduler.schedule(() -> sendAsync(method, uri, body, responseParser, attempt, result), waitNanos, TimeUnit.NANOSECONDS);
+					return;
+				}
+				long startNanos = System.nanoTime();
+				transport.execute(method, uri, body, responseParser).whenComplete((response, error) -> {
+					latencyHistograms.get(endpointClass).record(System.nanoTime() - startNanos, error != null);
+					if (error == null) {
+						rateLimiter.onSuccess();
+						result.complete(response);
+						return;
+					}
+					Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+					if (handleRequestFailure(endpointClass, rateLimiter, method, uri, cause, attempt) < 0) {
+						result.completeExceptionally(cause);
+					} else {
+						sendAsync(method, uri, body, responseParser, attempt + 1, result);
+					}
+				});
+			} catch (Exception e) {
+				result.completeExceptionally(e);
+			}
+		}
+
+		/**
+		 * Handles a failed attempt of a request. When the API answers 429, or 5xx for requests other than controls, the
+		 * limiter slows down for the delay given by {@link #retrieveRetryDelay(CommandFailureException, int)}, and the request
+		 * can be retried unless {@link YealinkConstant#MAX_REQUEST_RETRIES} is reached. Controls are not retried on 5xx, as the
+		 * command may have been executed.
+		 *
+		 * @param endpointClass class of the request
+		 * @param rateLimiter rate limiter of the class
+		 * @param method HTTP method of the request
+		 * @param uri relative uri of the request
+		 * @param error failure of the attempt
+		 * @param attempt zero-based attempt that failed
+		 * @return the delay before the retry in milliseconds, or -1 if the request must not be retried
+		 */
+		private long handleRequestFailure(EndpointClass endpointClass, RequestRateLimiter rateLimiter, HttpMethod method, String uri, Throwable error, int attempt) {
+			if (!(error instanceof CommandFailureException)) {
+				return -1;
+			}
+			CommandFailureException e = (CommandFailureException) error;
+			int status = e.getStatusCode();
+			boolean throttled = status == 429;
+			if (!throttled && status < 500) {
+				return -1;
+			}
+			long delayMs = retrieveRetryDelay(e, attempt);
+			rateLimiter.onThrottled(delayMs);
+			if (attempt >= YealinkConstant.MAX_REQUEST_RETRIES || (!throttled && endpointClass == EndpointClass.CONTROL)) {
+				return -1;
+			}
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("%s %s failed with status %d, retrying in %d ms", method, uri, status, delayMs));
+			}
+			return delayMs;
+		}
+
+		/**
+		 * Retrieves the delay before a failed request can be retried: the {@code Retry-After} header of the response, in seconds
+		 * or as an HTTP date, otherwise {@link YealinkConstant#RETRY_BASE_DELAY} doubled on every attempt. The delay is capped to
+		 * {@link YealinkConstant#MAX_RETRY_DELAY}.
+		 *
+		 * @param e failure of the request
+		 * @param attempt zero-based attempt that failed
+		 * @return delay in milliseconds
+		 */
+		long retrieveRetryDelay(CommandFailureException e, int attempt) {
+			long delayMs = YealinkConstant.RETRY_BASE_DELAY << Math.min(attempt, 16);
+			String retryAfter = null;
+			if (e.getCause() instanceof RestClientResponseException) {
+				HttpHeaders headers = ((RestClientResponseException) e.getCause()).getResponseHeaders();
+				retryAfter = headers == null ? null : headers.getFirst(YealinkConstant.RETRY_AFTER);
+			} else if (e.getErrorContext() != null && e.getErrorContext().get(YealinkConstant.RETRY_AFTER) != null) {
+				retryAfter = String.valueOf(e.getErrorContext().get(YealinkConstant.RETRY_AFTER));
+			}
+			if (StringUtils.isNotNullOrEmpty(retryAfter)) {
+				try {
+					delayMs = TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+				} catch (NumberFormatException numberFormatException) {
+					try {
+						delayMs = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli() - System.currentTimeMillis();
+					} catch (Exception dateException) {
+						logger.debug(String.format("Unable to parse %s header: %s", YealinkConstant.RETRY_AFTER, retryAfter));
+					}
+				}
+			}
+			return Math.max(0, Math.min(delayMs, YealinkConstant.MAX_RETRY_DELAY));
+		}
+
+		/**
+		 * Creates a {@link RequestRateLimiter} for each {@link EndpointClass}
+		 *
+		 * @param rates configured requests per second, classes without a configured rate use their default rate
+		 * @return immutable map of the rate limiters
+		 */
+		private static Map<EndpointClass, RequestRateLimiter> createRateLimiters(Map<EndpointClass, Double> rates) {
+			Map<EndpointClass, RequestRateLimiter> limiters = new EnumMap<>(EndpointClass.class);
+			for (EndpointClass endpointClass : EndpointClass.values()) {
+				limiters.put(endpointClass, new RequestRateLimiter(rates.getOrDefault(endpointClass, endpointClass.getDefaultRate())));
+			}
+			return Collections.unmodifiableMap(limiters);
+		}
+
+		/**
+		 * Creates a {@link LatencyHistogram} for each {@link EndpointClass}
+		 *
+		 * @return immutable map of the histograms
+		 */
+		private static Map<EndpointClass, LatencyHistogram> createLatencyHistograms() {
+			Map<EndpointClass, LatencyHistogram> histograms = new EnumMap<>(EndpointClass.class);
+			for (EndpointClass endpointClass : EndpointClass.values()) {
+				histograms.put(endpointClass, new LatencyHistogram());
+			}
+			return Collections.unmodifiableMap(histograms);
+		}
+
 		/**
 		 * {@inheritDoc}
 		 */
@@ -579,11 +1402,64 @@
 				logger.debug("Internal init is called.");
 			}
 			adapterInitializationTimestamp = System.currentTimeMillis();
+			tokenManager.start();
+			diagnosisTracker.start();
 			executorService = Executors.newFixedThreadPool(1);
 			executorService.submit(deviceDataLoader = new YealinkCloudDataLoader());
+			pageExecutorService = Executors.newFixedThreadPool(YealinkConstant.MAX_PAGE_CONCURRENCY);
+			detailExecutorService = Executors.newFixedThreadPool(detailFetchConcurrency);
+			partitionExecutorService = Executors.newFixedThreadPool(YealinkConstant.MAX_PARTITION_WORKERS);
+			asyncTransportOutdated = false;
+			if (asyncTransport) {
+				startAsyncTransport();
+			}
 			super.internalInit();
 		}
 
+		/**
+		 * Starts {@link #asyncHttpTransport} and {@link #asyncRequestScheduler}. The headers of each request are built by
+		 * {@link #putExtraRequestHeaders(HttpMethod, String, HttpHeaders)}, as for the blocking requests.
+		 *
+		 * @throws Exception if the transport cannot be created
+		 */
+		private void startAsyncTransport() throws Exception {
+			if (asyncRequestScheduler == null) {
+				asyncRequestScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+					Thread thread = new Thread(runnable, "yealink-async-requests");
+					thread.setDaemon(true);
+					return thread;
+				});
+			}
+			String baseUrl = getProtocol() + "://" + getHost() + ":" + getPort() + "/" + getBaseUri();
+			asyncHttpTransport = new YealinkAsyncTransport(baseUrl, getTrustAllCertificates(), asyncMaxConnections, asyncConnectTimeout,
+					asyncResponseTimeout, (method, uri) -> putExtraRequestHeaders(method, uri, new HttpHeaders()), objectMapper);
+		}
+
+		/**
+		 * Restarts {@link #asyncHttpTransport} with the current settings once {@link #asyncTransportOutdated} is set, or stops it
+		 * if {@link #asyncTransport} was disabled. Called by {@link YealinkCloudDataLoader} between collection cycles, so the
+		 * restart never cuts a list walk; requests of a partition refresh still in flight fail and are retried on its next run.
+		 */
+		private void applyAsyncTransportSettings() {
+			if (!asyncTransportOutdated) {
+				return;
+			}
+			asyncTransportOutdated = false;
+			YealinkAsyncTransport previousTransport = asyncHttpTransport;
+			asyncHttpTransport = null;
+			if (previousTransport != null) {
+				previousTransport.close();
+			}
+			if (!asyncTransport) {
+				return;
+			}
+			try {
+				startAsyncTransport();
+			} catch (Exception e) {
+				logger.error("Unable to start the asynchronous transport, the blocking requests are used instead", e);
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 */
@@ -600,15 +1476,46 @@
 				executorService.shutdownNow();
 				executorService = null;
 			}
+			if (pageExecutorService != null) {
+				pageExecutorService.shutdownNow();
+				pageExecutorService = null;
+			}
+			if (detailExecutorService != null) {
+				detailExecutorService.shutdownNow();
+				detailExecutorService = null;
+			}
+			if (partitionExecutorService != null) {
+				partitionExecutorService.shutdownNow();
+				partitionExecutorService = null;
+			}
+			if (asyncHttpTransport != null) {
+				asyncHttpTransport.close();
+				asyncHttpTransport = null;
+			}
+			if (asyncRequestScheduler != null) {
+				asyncRequestScheduler.shutdownNow();
+				asyncRequestScheduler = null;
+			}
 			if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
 				localExtendedStatistics.getStatistics().clear();
 				localExtendedStatistics.getControllableProperties().clear();
 			}
 			cacheValue.clear();
-			loginInfo = null;
+			tokenManager.stop();
+			diagnosisTracker.stop();
 			nextDevicesCollectionIterationTimestamp = 0;
-			aggregatedDeviceList.clear();
-			cachedMonitoringDevice.clear();
+			aggregatedDeviceList = Collections.emptyList();
+			aggregatedDeviceIndex = Collections.emptyMap();
+			cachedMonitoringDevice = Collections.emptyMap();
+			cachedAccessories.clear();
+			accessoryKeyTable.clear();
+			cachedNetworkInterfaces.clear();
+			rebootResults.clear();
+			collectionPartitions.clear();
+			refreshedPartitions.clear();
+			runningPartitions.set(0);
+			partitionedDevices = Collections.emptySet();
+			cachedDevicesTotal = null;
 			super.internalDestroy();
 		}
 
@@ -619,55 +1526,118 @@
 		 * @param dynamicStatistics the map where dynamic statistics will be stored
 		 */
 		private void retrieveMetadata(Map<String, String> stats, Map<String, String> dynamicStatistics) {
-			try {
-				if (lastMonitoringCycleDuration != null) {
-					dynamicStatistics.put(YealinkConstant.MONITORING_CYCLE_DURATION, String.valueOf(lastMonitoringCycleDuration));
-				}
+			if (lastMonitoringCycleDuration != null) {
+				dynamicStatistics.put(YealinkConstant.MONITORING_CYCLE_DURATION, String.valueOf(lastMonitoringCycleDuration));
+			}
 
-				stats.put(YealinkConstant.ADAPTER_VERSION,
-						Util.getDefaultValueForNullData(adapterProperties.getProperty("aggregator.version")));
-				stats.put(YealinkConstant.ADAPTER_BUILD_DATE,
-						Util.getDefaultValueForNullData(adapterProperties.getProperty("aggregator.build.date")));
-				long adapterUptime = System.currentTimeMillis() - adapterInitializationTimestamp;
-				stats.put(YealinkConstant.ADAPTER_UPTIME_MIN, String.valueOf(adapterUptime / (1000 * 60)));
-				stats.put(YealinkConstant.ADAPTER_UPTIME, Util.normalizeUptime(adapterUptime / 1000));
+			stats.put(YealinkConstant.ADAPTER_VERSION,
+					Util.getDefaultValueForNullData(adapterProperties.getProperty("aggregator.version")));
+			stats.put(YealinkConstant.ADAPTER_BUILD_DATE,
+					Util.getDefaultValueForNullData(adapterProperties.getProperty("aggregator.build.date")));
+			long adapterUptime = System.currentTimeMillis() - adapterInitializationTimestamp;
+			stats.put(YealinkConstant.ADAPTER_UPTIME_MIN, String.valueOf(adapterUptime / (1000 * 60)));
+			stats.put(YealinkConstant.ADAPTER_UPTIME, Util.normalizeUptime(adapterUptime / 1000));
+
+			CachedValue<String> devicesTotal = cachedDevicesTotal;
+			if (devicesTotal != null) {
+				dynamicStatistics.put(YealinkConstant.MONITORED_DEVICES_TOTAL, devicesTotal.getValue());
+			}
+			retrieveCycleStatistics(dynamicStatistics);
+			retrieveApiStatistics(dynamicStatistics);
+		}
 
-				dynamicStatistics.put(YealinkConstant.MONITORED_DEVICES_TOTAL, getDeviceCount());
-			} catch (Exception e) {
-				throw new ResourceNotReachableException("Invalid deviceTypeFilter: '" + deviceTypeFilter + "'.",e);
+		/**
+		 * Publishes the phase breakdown of the last finished collection cycle, the devices still pending in the current cycle
+		 * and the age of {@link #aggregatedDeviceList}.
+		 * Every phase is published as wall time. Detail and accessory fetches run concurrently, so each of these phases spans
+		 * from its first request dispatched to its last request completed, as recorded by {@link CollectionCycleMetrics}.
+		 *
+		 * @param dynamicStatistics the map where dynamic statistics will be stored
+		 */
+		private void retrieveCycleStatistics(Map<String, String> dynamicStatistics) {
+			String group = YealinkConstant.MONITORING_CYCLE + YealinkConstant.HASH;
+			CollectionCycleMetrics cycle = lastCycle;
+			if (cycle != null) {
+				dynamicStatistics.put(group + YealinkConstant.CYCLE_TOTAL, String.valueOf(cycle.getTotalMillis()));
+				dynamicStatistics.put(group + YealinkConstant.CYCLE_LIST_PAGING, String.valueOf(cycle.getListPagingMillis()));
+				dynamicStatistics.put(group + YealinkConstant.CYCLE_DETAIL_FETCH, String.valueOf(cycle.getDetailFetchMillis()));
+				dynamicStatistics.put(group + YealinkConstant.CYCLE_ACCESSORY_FETCH, String.valueOf(cycle.getAccessoryFetchMillis()));
+				dynamicStatistics.put(group + YealinkConstant.CYCLE_SNAPSHOT_MAPPING, String.valueOf(cycle.getSnapshotMappingMillis()));
+				dynamicStatistics.put(group + YealinkConstant.CYCLE_DEVICES_PROCESSED, String.valueOf(cycle.getDevicesProcessed()));
+				dynamicStatistics.put(group + YealinkConstant.CYCLE_DEVICES_SKIPPED, String.valueOf(cycle.getDevicesSkipped()));
+				dynamicStatistics.put(group + YealinkConstant.CYCLE_CACHE_HIT_RATIO, String.valueOf(cycle.getCacheHitRatio()));
 			}
+			CollectionCycleMetrics running = currentCycle;
+			if (running != null) {
+				dynamicStatistics.put(group + YealinkConstant.CYCLE_DEVICES_PENDING, String.valueOf(running.getDevicesPending()));
+			}
+			long published = snapshotTimestamp;
+			if (published > 0) {
+				dynamicStatistics.put(group + YealinkConstant.CYCLE_SNAPSHOT_AGE, String.valueOf(System.currentTimeMillis() - published));
+			}
+			collectionPartitions.values().forEach(partition -> retrievePartitionStatistics(partition, dynamicStatistics));
 		}
 
 		/**
-		 * Check API token validation
-		 * If the token expires, we send a request to get a new token
+		 * Publishes the size, last refresh duration, pending devices and consecutive failures of a {@link CollectionPartition}
 		 *
-		 * @return boolean True if valid user information, and vice versa.
+		 * @param partition the partition
+		 * @param dynamicStatistics the map where dynamic statistics will be stored
 		 */
-		private boolean checkValidApiToken() throws Exception {
-			if (isTokenExpired()) {
-				retrieveToken();
+		private void retrievePartitionStatistics(CollectionPartition partition, Map<String, String> dynamicStatistics) {
+			String group = YealinkConstant.PARTITION + partition.getKey() + YealinkConstant.HASH;
+			dynamicStatistics.put(group + YealinkConstant.PARTITION_DEVICES, String.valueOf(partition.getEntries().size()));
+			dynamicStatistics.put(group + YealinkConstant.PARTITION_FAILURES, String.valueOf(partition.getConsecutiveFailures()));
+			CollectionCycleMetrics lastRun = partition.getLastRun();
+			if (lastRun != null) {
+				dynamicStatistics.put(group + YealinkConstant.CYCLE_TOTAL, String.valueOf(lastRun.getTotalMillis()));
+			}
+			CollectionCycleMetrics currentRun = partition.getCurrentRun();
+			if (currentRun != null) {
+				dynamicStatistics.put(group + YealinkConstant.CYCLE_DEVICES_PENDING, String.valueOf(currentRun.getDevicesPending()));
 			}
-			return loginInfo == null || StringUtils.isNullOrEmpty(loginInfo.getAccessToken());
 		}
 
-		private boolean isTokenExpired() {
-			if (loginInfo == null) return true;
-			Long expiresInSec = loginInfo.getExpiresIn();
-			if (expiresInSec == null || expiresInSec <= 0) return true;
+		/**
+		 * Publishes the latency percentiles, error count and request rate of each {@link EndpointClass} over the rolling window of
+		 * {@link #latencyHistograms}. Percentiles are only published for classes that sent requests within the window.
+		 *
+		 * @param dynamicStatistics the map where dynamic statistics will be stored
+		 */
+		private void retrieveApiStatistics(Map<String, String> dynamicStatistics) {
+			latencyHistograms.forEach((endpointClass, histogram) -> {
+				LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+				String group = YealinkConstant.API_STATISTICS + endpointClass.getName() + YealinkConstant.HASH;
+				if (snapshot.getCount() > 0) {
+					dynamicStatistics.put(group + YealinkConstant.LATENCY_P50, String.valueOf(snapshot.getP50Millis()));
+					dynamicStatistics.put(group + YealinkConstant.LATENCY_P95, String.valueOf(snapshot.getP95Millis()));
+					dynamicStatistics.put(group + YealinkConstant.LATENCY_P99, String.valueOf(snapshot.getP99Millis()));
+				}
+				dynamicStatistics.put(group + YealinkConstant.REQUEST_ERRORS, String.valueOf(snapshot.getErrors()));
+				dynamicStatistics.put(group + YealinkConstant.REQUEST_RATE, String.valueOf(Math.round(snapshot.getRequestRate() * 100) / 100.0));
+			});
+		}
 
-			long lifetimeMs = TimeUnit.SECONDS.toMillis(expiresInSec);
-			long now = System.currentTimeMillis();
-			return now >= (tokenExpire + lifetimeMs - TOKEN_SKEW_MS);
+		/**
+		 * Check API token validation
+		 * The token is refreshed in background by {@link #tokenManager}, a request is only sent from the calling thread
+		 * if there is no valid token yet.
+		 *
+		 * @return boolean True if the token is missing, and vice versa.
+		 */
+		private boolean checkValidApiToken() throws Exception {
+			LoginInfo info = tokenManager.ensureToken();
+			return info == null || StringUtils.isNullOrEmpty(info.getAccessToken());
 		}
 
 		/**
 		 * Retrieves an authorization token using the provided credentials.
 		 *
+		 * @return the retrieved login info, or null if the response holds no access token
 		 * @throws FailedLoginException if login fails due to incorrect credentials
 		 * @throws ResourceNotReachableException if the endpoint is unreachable
 		 */
-		private void retrieveToken() throws FailedLoginException {
+		private LoginInfo retrieveToken() throws FailedLoginException {
 			if (StringUtils.isNullOrEmpty(this.getLogin()) || StringUtils.isNullOrEmpty(this.getPassword())) {
 				throw new FailedLoginException("Username or Password field is empty. Please check device credentials");
 			}
@@ -676,15 +1646,15 @@
 				if (response.size() == 1) {
 					throw new IllegalArgumentException("ClientId and ClientSecret are not correct");
 				}
-				if (response.has(YealinkConstant.ACCESS_TOKEN)) {
-					this.loginInfo.setAccess_token(response.get(YealinkConstant.ACCESS_TOKEN).asText());
-					this.loginInfo.setToken_type(response.get(YealinkConstant.TOKEN_TYPE).asText());
-					this.loginInfo.setExpires_in(response.get(YealinkConstant.EXPIRES_IN).asLong());
-					tokenExpire = System.currentTimeMillis();
-					this.loginInfo.setLoginDateTime(System.currentTimeMillis());
-				} else {
-					loginInfo = null;
+				if (!response.has(YealinkConstant.ACCESS_TOKEN)) {
+					return null;
 				}
+				LoginInfo info = new LoginInfo();
+				info.setAccess_token(response.get(YealinkConstant.ACCESS_TOKEN).asText());
+				info.setToken_type(response.get(YealinkConstant.TOKEN_TYPE).asText());
+				info.setExpires_in(response.get(YealinkConstant.EXPIRES_IN).asLong());
+				info.setLoginDateTime(System.currentTimeMillis());
+				return info;
 			} catch (CommandFailureException | FailedLoginException e) {
 				throw new FailedLoginException("Unable to retrieve the authorization token, endpoint not reachable");
 			} catch (Exception e) {
@@ -693,75 +1663,615 @@
 		}
 
 		/**
-		 * Loads devices from Yealink and updates the internal cache with per-device fields.
-		 * @throws ResourceNotReachableException if any call to list or detail endpoints fails
+		 * Loads devices from Yealink and publishes a new generation of {@link #cachedMonitoringDevice}.
+		 * Device ids are fed from each list page, as soon as it arrives, into {@link #detailExecutorService}, and the
+		 * detail mappings are collected into the generation as each request finishes. The same worker refreshes the accessories
+		 * of the device when its {@link #cachedAccessories} entry has expired, and, while controls are enabled, its
+		 * {@link #cachedNetworkInterfaces} entry.
+		 * With {@link #incrementalPolling} enabled, only devices reported as changed by {@link #hasDeviceChanged(Map, Map)}
+		 * are refetched, unchanged devices carry their previous values over and are only visited to refresh expired cache entries.
+		 * Devices that are no longer returned by the list endpoint are not part of the new generation. If the list cannot be
+		 * walked completely, the previous generation stays published. A device whose refresh fails, or does not complete within
+		 * {@link YealinkConstant#DEVICE_DETAIL_TIMEOUT} of the previous completion, keeps its values of the previous generation.
+		 * When {@link #asyncHttpTransport} is started, the requests of each device are sent through it by
+		 * {@link #refreshDeviceAsync(String, boolean, boolean, boolean, CollectionCycleMetrics)} instead of occupying a worker of
+		 * {@link #detailExecutorService}.
+		 * Each phase of the cycle is recorded in a new {@link CollectionCycleMetrics}, published as {@link #currentCycle} while
+		 * the cycle runs and as {@link #lastCycle} once it is finished.
+		 * Leaving partitioned mode drops {@link #collectionPartitions} and {@link #partitionedDevices}, so a partition refresh that
+		 * is still in flight merges nothing, and the generation is published under {@link #generationLock}.
+		 * @throws ResourceNotReachableException if any call to the list endpoint fails
 		 * or an unexpected error occurs during population.
 		 */
 		private void populateListDevice() {
+			collectionPartitions.clear();
+			refreshedPartitions.clear();
+			partitionedDevices = Collections.emptySet();
+			Map<String, Map<String, String>> previousGeneration = cachedMonitoringDevice;
+			Map<String, Map<String, String>> generation = new HashMap<>();
+			BlockingQueue<Future<Map<String, String>>> completedDetails = new LinkedBlockingQueue<>();
+			CompletionService<Map<String, String>> details = new ExecutorCompletionService<>(detailExecutorService, completedDetails);
+			List<Future<Map<String, String>>> pending = new ArrayList<>();
+			CollectionCycleMetrics cycle = new CollectionCycleMetrics();
+			currentCycle = cycle;
 			try {
-				Map<String, String> filterDeviceType = new HashMap<>();
-				Map<String, Object> extraField = new HashMap<>();
-				if(!Objects.equals(deviceTypeFilter, "")) {
-					filterDeviceType.put("deviceType", deviceTypeFilter);
+				long pagingStart = System.nanoTime();
+				Set<String> listedDevices = fetchAllDevicePages(entry -> {
+					String deviceId = entry.get(YealinkConstant.ID);
+					Map<String, String> previousData = previousGeneration.get(deviceId);
+					if (previousData != null) {
+						generation.put(deviceId, previousData);
+					}
+					Future<Map<String, String>> detail = dispatchDeviceRefresh(entry, previousData, cycle, details, completedDetails);
+					if (detail != null) {
+						pending.add(detail);
+					}
+				});
+				cycle.setListPaging(System.nanoTime() - pagingStart);
+
+				for (int i = 0; i < pending.size(); i++) {
+					Future<Map<String, String>> detail = completedDetails.poll(YealinkConstant.DEVICE_DETAIL_TIMEOUT, TimeUnit.MILLISECONDS);
+					if (detail == null) {
+						logger.warn(String.format("%d device refreshes did not complete within %d ms, the devices keep their previous values",
+								pending.size() - i, YealinkConstant.DEVICE_DETAIL_TIMEOUT));
+						break;
+					}
+					try {
+						Map<String, String> mappingValue = detail.get();
+						if (mappingValue != null) {
+							mergeDeviceDetail(generation, mappingValue);
+						}
+					} catch (ExecutionException e) {
+						logger.error("Error when refreshing device, the device keeps its previous values", e.getCause());
+					}
+				}
+				generationLock.lock();
+				try {
+					cachedMonitoringDevice = Collections.unmodifiableMap(generation);
+				} finally {
+					generationLock.unlock();
 				}
-				extraField.put("filter", filterDeviceType);
+				retainListedDevices(listedDevices);
+				long mappingStart = System.nanoTime();
+				cloneAndPopulateAggregatedDeviceList();
+				cycle.setSnapshotMapping(System.nanoTime() - mappingStart);
+			} catch (Exception e) {
+				throw new ResourceNotReachableException("Error when retrieving list devices info", e);
+			} finally {
+				pending.forEach(detail -> detail.cancel(true));
+				cycle.finish();
+				lastCycle = cycle;
+			}
+		}
 
-				ObjectNode body = Util.buildRequestBody(0, 20, true, extraField, objectMapper);
-				JsonNode root = this.doPost(YealinkCommand.GET_LIST_DEVICES, body, JsonNode.class);
+		/**
+		 * Loads devices from Yealink in {@link PartitionMode} other than {@link PartitionMode#NONE}. The device list is walked
+		 * as in {@link #populateListDevice()}, but its entries are only assigned to {@link #collectionPartitions}: devices that
+		 * are no longer listed are dropped from {@link #cachedMonitoringDevice} right away, and the requests of the listed devices
+		 * are sent by {@link #refreshPartition(CollectionPartition)} on the schedule of each partition.
+		 * If the list cannot be walked completely, the partitions keep their previous entries.
+		 *
+		 * @param mode partition mode of the cycle
+		 * @throws ResourceNotReachableException if any call to the list endpoint fails
+		 * or an unexpected error occurs during population.
+		 */
+		private void populatePartitions(PartitionMode mode) {
+			Map<String, List<Map<String, String>>> assignments = new HashMap<>();
+			int count = partitionCount;
+			CollectionCycleMetrics cycle = new CollectionCycleMetrics();
+			currentCycle = cycle;
+			try {
+				long pagingStart = System.nanoTime();
+				Set<String> listedDevices = fetchAllDevicePages(
+						entry -> assignments.computeIfAbsent(mode.partitionKey(entry, count), key -> new ArrayList<>()).add(entry));
+				cycle.setListPaging(System.nanoTime() - pagingStart);
+
+				partitionedDevices = Collections.unmodifiableSet(listedDevices);
+				collectionPartitions.keySet().retainAll(assignments.keySet());
+				assignments.forEach((key, entries) -> collectionPartitions.computeIfAbsent(key, CollectionPartition::new).assign(entries));
+				generationLock.lock();
+				try {
+					Map<String, Map<String, String>> generation = new HashMap<>(cachedMonitoringDevice);
+					generation.keySet().retainAll(listedDevices);
+					cachedMonitoringDevice = Collections.unmodifiableMap(generation);
+				} finally {
+					generationLock.unlock();
+				}
+				retainListedDevices(listedDevices);
+				refreshedPartitions.clear();
+				long mappingStart = System.nanoTime();
+				cloneAndPopulateAggregatedDeviceList();
+				cycle.setSnapshotMapping(System.nanoTime() - mappingStart);
+			} catch (Exception e) {
+				throw new ResourceNotReachableException("Error when retrieving list devices info", e);
+			} finally {
+				cycle.finish();
+				lastCycle = cycle;
+			}
+		}
 
-				JsonNode data = root.path(YealinkConstant.DATA);
-				if (data == null || !data.isArray() || data.isEmpty()) {
-					return;
+		/**
+		 * Submits a refresh of each partition of {@link #collectionPartitions} that is due and not running to
+		 * {@link #partitionExecutorService}.
+		 */
+		private void dispatchDuePartitions() {
+			ExecutorService executor = partitionExecutorService;
+			if (executor == null) {
+				return;
+			}
+			long now = System.currentTimeMillis();
+			for (CollectionPartition partition : collectionPartitions.values()) {
+				if (!partition.tryStart(now)) {
+					continue;
 				}
+				runningPartitions.incrementAndGet();
+				try {
+					executor.submit(() -> refreshPartition(partition));
+				} catch (RejectedExecutionException e) {
+					runningPartitions.decrementAndGet();
+					partition.finish(false, YealinkConstant.COLLECTION_INTERVAL, YealinkConstant.MAX_PARTITION_BACKOFF);
+				}
+			}
+		}
 
-				for (JsonNode node : data) {
-					String deviceId = node.get("id").asText("");
-					if (deviceId.isEmpty()) continue;
+		/**
+		 * Checks whether the details merged by the partition refreshes have to be published. Publications are coalesced to one
+		 * per round of refreshes: {@link #aggregatedDeviceList} is rebuilt once every partition was refreshed since the last
+		 * publication, or once {@link YealinkConstant#COLLECTION_INTERVAL} elapsed since it, so a partition that is backing off
+		 * does not hold back the others.
+		 *
+		 * @return true if a partition refresh merged details that are not published yet and the round is complete or overdue
+		 */
+		private boolean isPartitionRebuildDue() {
+			if (refreshedPartitions.isEmpty()) {
+				return false;
+			}
+			return refreshedPartitions.containsAll(collectionPartitions.keySet())
+					|| System.currentTimeMillis() - snapshotTimestamp >= YealinkConstant.COLLECTION_INTERVAL;
+		}
 
-					JsonNode detail = this.doGet(String.format(YealinkCommand.GET_DEVICES_DETAIL, deviceId), JsonNode.class);
-					if (detail == null || detail.isNull()) continue;
+		/**
+		 * Sends the requests of the devices of a partition, as {@link #populateListDevice()} does for the whole list, and merges
+		 * the mapped details into {@link #cachedMonitoringDevice}.
+		 * The workers of {@link #detailExecutorService} are shared equally between the {@link #runningPartitions}: before each
+		 * device is dispatched, the partition waits until fewer than {@link #detailFetchConcurrency} divided by the number of running
+		 * partitions, and at least one, of its devices are in flight. A slow partition therefore cannot hold the workers the other
+		 * running partitions are entitled to. Each device detail is awaited for at most
+		 * {@link YealinkConstant#DEVICE_DETAIL_TIMEOUT}.
+		 * The refresh fails when it throws or times out, or when every device detail it requested failed; whatever was mapped is
+		 * merged in all cases and published by the next rebuild, see {@link #isPartitionRebuildDue()}.
+		 *
+		 * @param partition partition started by {@link CollectionPartition#tryStart(long)}
+		 */
+		private void refreshPartition(CollectionPartition partition) {
+			CollectionCycleMetrics run = partition.getCurrentRun();
+			List<Future<Map<String, String>>> pending = new ArrayList<>();
+			List<Map<String, String>> mappingValues = new ArrayList<>();
+			boolean succeeded = false;
+			try {
+				BlockingQueue<Future<Map<String, String>>> completedDetails = new LinkedBlockingQueue<>();
+				CompletionService<Map<String, String>> details = new ExecutorCompletionService<>(detailExecutorService, completedDetails);
+				Map<String, Map<String, String>> generation = cachedMonitoringDevice;
+				int inFlight = 0;
+				for (Map<String, String> entry : partition.getEntries()) {
+					for (; inFlight >= Math.max(1, detailFetchConcurrency / Math.max(1, runningPartitions.get())); inFlight--) {
+						collectDeviceDetail(completedDetails, mappingValues);
+					}
+					Future<Map<String, String>> detail = dispatchDeviceRefresh(entry, generation.get(entry.get(YealinkConstant.ID)), run, details, completedDetails);
+					if (detail != null) {
+						pending.add(detail);
+						inFlight++;
+					}
+				}
+				for (; inFlight > 0; inFlight--) {
+					collectDeviceDetail(completedDetails, mappingValues);
+				}
+				succeeded = run.getDetailFetches() == 0 || run.getDetailFailures() < run.getDetailFetches();
+			} catch (Exception e) {
+				logger.error(String.format("Error when refreshing devices of partition %s", partition.getKey()), e);
+			} finally {
+				pending.forEach(detail -> detail.cancel(true));
+				mergePartition(mappingValues);
+				if (collectionPartitions.get(partition.getKey()) == partition) {
+					refreshedPartitions.add(partition.getKey());
+				}
+				runningPartitions.decrementAndGet();
+				partition.finish(succeeded, YealinkConstant.COLLECTION_INTERVAL, YealinkConstant.MAX_PARTITION_BACKOFF);
+			}
+		}
 
-					Map<String, String> mappingValue = new HashMap<>();
+		/**
+		 * Waits for the next completed device refresh and adds its mapped detail to {@code mappingValues}
+		 *
+		 * @param completedDetails queue of the futures returned by {@link #dispatchDeviceRefresh(Map, Map, CollectionCycleMetrics, CompletionService, BlockingQueue)}
+		 * @param mappingValues mapped details collected so far
+		 * @throws TimeoutException if no refresh completes within {@link YealinkConstant#DEVICE_DETAIL_TIMEOUT}
+		 * @throws Exception if the refresh failed unexpectedly
+		 */
+		private void collectDeviceDetail(BlockingQueue<Future<Map<String, String>>> completedDetails, List<Map<String, String>> mappingValues) throws Exception {
+			Future<Map<String, String>> detail = completedDetails.poll(YealinkConstant.DEVICE_DETAIL_TIMEOUT, TimeUnit.MILLISECONDS);
+			if (detail == null) {
+				throw new TimeoutException(String.format("No device detail completed within %d ms", YealinkConstant.DEVICE_DETAIL_TIMEOUT));
+			}
+			Map<String, String> mappingValue = detail.get();
+			if (mappingValue != null) {
+				mappingValues.add(mappingValue);
+			}
+		}
 
-					for (AggregatedInformation info : AggregatedInformation.values()) {
-						String field = info.getField();
-						if (!YealinkConstant.EMPTY.equals(field) && detail.has(field)) {
-							mappingValue.put(info.getName(), detail.path(field).asText(YealinkConstant.NOT_AVAILABLE));
-						}
+		/**
+		 * Publishes a new generation of {@link #cachedMonitoringDevice} with the mapped details of a partition refresh.
+		 * Details of devices that are no longer listed are dropped.
+		 *
+		 * @param mappingValues mapped details with the device id stored under {@link YealinkConstant#ID}
+		 */
+		private void mergePartition(List<Map<String, String>> mappingValues) {
+			if (mappingValues.isEmpty()) {
+				return;
+			}
+			generationLock.lock();
+			try {
+				Set<String> listedDevices = partitionedDevices;
+				Map<String, Map<String, String>> generation = new HashMap<>(cachedMonitoringDevice);
+				for (Map<String, String> mappingValue : mappingValues) {
+					if (listedDevices.contains(mappingValue.get(YealinkConstant.ID))) {
+						mergeDeviceDetail(generation, mappingValue);
 					}
-					putMapIntoCachedData(deviceId, mappingValue);
 				}
+				cachedMonitoringDevice = Collections.unmodifiableMap(generation);
+			} finally {
+				generationLock.unlock();
+			}
+		}
+
+		/**
+		 * Merges a mapped device detail over the values of the device in a generation
+		 *
+		 * @param generation generation being built
+		 * @param mappingValue mapped values with the device id stored under {@link YealinkConstant#ID}, the id is removed
+		 */
+		private static void mergeDeviceDetail(Map<String, Map<String, String>> generation, Map<String, String> mappingValue) {
+			String deviceId = mappingValue.remove(YealinkConstant.ID);
+			Map<String, String> deviceData = new HashMap<>(generation.getOrDefault(deviceId, Collections.emptyMap()));
+			deviceData.putAll(mappingValue);
+			generation.put(deviceId, Collections.unmodifiableMap(deviceData));
+		}
+
+		/**
+		 * Drops the cached accessories, network interfaces, reboot results and diagnosis tasks of devices that are no longer listed
+		 *
+		 * @param listedDevices ids of the devices returned by the list endpoint
+		 */
+		private void retainListedDevices(Set<String> listedDevices) {
+			cachedAccessories.keySet().retainAll(listedDevices);
+			cachedNetworkInterfaces.keySet().retainAll(listedDevices);
+			rebootResults.keySet().retainAll(listedDevices);
+			diagnosisTracker.retainDevices(listedDevices);
+		}
+
+		/**
+		 * Sends the requests a listed device needs: its detail if it changed, its accessories if they changed or expired, and
+		 * its network interface if it expired, either through {@link #asyncHttpTransport} or on {@link #detailExecutorService}.
+		 *
+		 * @param entry entry of the device in the list response, see {@link DeviceListPage#getEntries()}
+		 * @param previousData values of the device in the current generation, null if the device is new
+		 * @param cycle metrics of the current collection cycle
+		 * @param details completion service of {@link #detailExecutorService} feeding {@code completedDetails}
+		 * @param completedDetails queue receiving the future once it completes
+		 * @return future of the mapped detail, completed with null if the detail was not requested or is unavailable,
+		 * or null if the device needs no request
+		 */
+		private Future<Map<String, String>> dispatchDeviceRefresh(Map<String, String> entry, Map<String, String> previousData, CollectionCycleMetrics cycle,
+				CompletionService<Map<String, String>> details, BlockingQueue<Future<Map<String, String>>> completedDetails) {
+			String deviceId = entry.get(YealinkConstant.ID);
+			boolean changed = !incrementalPolling || hasDeviceChanged(previousData, entry);
+			boolean accessoriesExpired = changed || isAccessoryExpired(deviceId);
+			boolean networkInterfaceExpired = configManagement && isNetworkInterfaceExpired(deviceId);
+			cycle.deviceListed(!changed, !accessoriesExpired);
+			if (!changed && !networkInterfaceExpired && !accessoriesExpired) {
+				cycle.deviceSkipped();
+				return null;
+			}
+			cycle.deviceDispatched();
+			if (changed) {
+				cycle.detailFetchDispatched();
+			}
+			if (accessoriesExpired) {
+				cycle.accessoryFetchDispatched();
+			}
+			if (asyncHttpTransport != null) {
+				return addOnCompletion(refreshDeviceAsync(deviceId, changed, accessoriesExpired, networkInterfaceExpired, cycle), completedDetails);
+			}
+			return details.submit(() -> {
+				try {
+					Map<String, String> mappingValue = null;
+					if (changed) {
+						mappingValue = fetchDeviceDetail(deviceId);
+						cycle.detailFetchCompleted(mappingValue == null);
+					}
+					if (accessoriesExpired) {
+						refreshAccessories(deviceId, true);
+						cycle.accessoryFetchCompleted();
+					}
+					if (networkInterfaceExpired) {
+						refreshNetworkInterface(deviceId);
+					}
+					return mappingValue;
+				} finally {
+					cycle.deviceCompleted();
+				}
+			});
+		}
+
+		/**
+		 * Compares a device list entry with the cached values of the device.
+		 *
+		 * @param cachedData values of the device in the previous generation, null if the device is new
+		 * @param entry entry of the device in the list response, see {@link DeviceListPage#getEntries()}
+		 * @return true if the device is new, or if its {@code lastReportTime} or {@code deviceStatus} differs from the cached value
+		 */
+		private boolean hasDeviceChanged(Map<String, String> cachedData, Map<String, String> entry) {
+			if (cachedData == null) {
+				return true;
+			}
+			for (AggregatedInformation info : Arrays.asList(AggregatedInformation.LAST_REPORT_TIME, AggregatedInformation.DEVICE_STATUS)) {
+				String listedValue = entry.get(info.getField());
+				if (listedValue == null || !listedValue.equals(cachedData.get(info.getName()))) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Sends the requests of a device through {@link #asyncHttpTransport}: its detail if it changed, its accessories if they
+		 * changed or expired, and its network interface if it expired. Each failure is logged and isolated as in the blocking path.
+		 *
+		 * @param deviceId target device id
+		 * @param changed whether the device changed since the previous generation
+		 * @param accessoriesExpired whether the accessories have to be retrieved again
+		 * @param networkInterfaceExpired whether the network interface has to be retrieved again
+		 * @param cycle metrics of the current collection cycle
+		 * @return future of the mapped detail, completed with null if the detail was not requested or is unavailable
+		 */
+		private CompletableFuture<Map<String, String>> refreshDeviceAsync(String deviceId, boolean changed, boolean accessoriesExpired,
+				boolean networkInterfaceExpired, CollectionCycleMetrics cycle) {
+			CompletableFuture<Map<String, String>> detail = CompletableFuture.completedFuture(null);
+			if (changed) {
+				detail = sendAsync(HttpMethod.GET, String.format(YealinkCommand.GET_DEVICES_DETAIL, deviceId), null, this::readDeviceDetail).handle((response, error) -> {
+					Map<String, String> mappingValue = null;
+					if (error != null) {
+						logger.error(String.format("Error when retrieving detail of device %s", deviceId), error);
+					} else {
+						mappingValue = mapDeviceDetail(deviceId, response);
+					}
+					cycle.detailFetchCompleted(mappingValue == null);
+					return mappingValue;
+				});
+			}
+			CompletableFuture<Void> accessories = CompletableFuture.completedFuture(null);
+			if (accessoriesExpired) {
+				ObjectNode body = Util.buildRequestBody(0, 20, true, null, objectMapper);
+				accessories = sendAsync(HttpMethod.POST, String.format(YealinkCommand.GET_LIST_ACCESSORY, deviceId), body, this::readAccessories).handle((response, error) -> {
+					cycle.accessoryFetchCompleted();
+					if (error != null) {
+						logger.error(String.format("Error when retrieving accessories of device %s", deviceId), error);
+						return null;
+					}
+					storeAccessories(deviceId, response);
+					return null;
+				});
+			}
+			CompletableFuture<Void> networkInterface = CompletableFuture.completedFuture(null);
+			if (networkInterfaceExpired) {
+				networkInterface = sendAsync(HttpMethod.GET, String.format(YealinkCommand.GET_NETWORK_INTERFACE, deviceId), null).handle((response, error) -> {
+					if (error != null) {
+						logger.error(String.format("Can not get network interface of device %s", deviceId), error);
+						return null;
+					}
+					storeNetworkInterface(deviceId, response);
+					return null;
+				});
+			}
+			CompletableFuture<Map<String, String>> mappedDetail = detail;
+			return CompletableFuture.allOf(detail, accessories, networkInterface).whenComplete((done, error) -> cycle.deviceCompleted())
+					.thenApply(done -> mappedDetail.join());
+		}
+
+		/**
+		 * Adds a future to {@code completionQueue} once it completes, so results of {@link #asyncHttpTransport} are consumed
+		 * the same way as the results of an {@link ExecutorCompletionService} sharing the queue.
+		 *
+		 * @param future future to watch
+		 * @param completionQueue queue receiving the completed future
+		 * @return the future
+		 */
+		private static <T> Future<T> addOnCompletion(CompletableFuture<T> future, BlockingQueue<Future<T>> completionQueue) {
+			future.whenComplete((result, error) -> completionQueue.add(future));
+			return future;
+		}
+
+		/**
+		 * Retrieves the detail of a device and maps the fields of {@link AggregatedInformation}.
+		 * A failure is logged and isolated to this device, so its previously cached values are kept.
+		 *
+		 * @param deviceId target device id
+		 * @return mapped values with the device id stored under {@link YealinkConstant#ID}, or null if the detail is unavailable
+		 */
+		private Map<String, String> fetchDeviceDetail(String deviceId) {
+			try {
+				return mapDeviceDetail(deviceId, readDeviceDetail(this.doGet(String.format(YealinkCommand.GET_DEVICES_DETAIL, deviceId), byte[].class)));
 			} catch (Exception e) {
-				throw new ResourceNotReachableException("Error when retrieving list devices info", e);
+				logger.error(String.format("Error when retrieving detail of device %s", deviceId), e);
+				return null;
+			}
+		}
+
+		/**
+		 * Maps the fields of {@link AggregatedInformation} from the detail of a device.
+		 *
+		 * @param deviceId target device id
+		 * @param detail response of {@link YealinkCommand#GET_DEVICES_DETAIL}
+		 * @return mapped values with the device id stored under {@link YealinkConstant#ID}, or null if the detail is empty.
+		 * Fields missing from the response are not mapped, so the values of the previous generation are kept.
+		 */
+		private Map<String, String> mapDeviceDetail(String deviceId, DeviceDetail detail) {
+			if (detail == null) {
+				return null;
+			}
+			Map<String, String> mappingValue = new HashMap<>();
+			for (AggregatedInformation info : AggregatedInformation.values()) {
+				String value = detail.getValue(info);
+				if (value != null) {
+					mappingValue.put(info.getName(), value);
+				}
+			}
+			if (detail.getDeviceType() != null) {
+				mappingValue.put(YealinkConstant.DEVICE_TYPE, detail.getDeviceType());
+			}
+			mappingValue.put(YealinkConstant.ID, deviceId);
+			return mappingValue;
+		}
+
+		/**
+		 * Reads a response of {@link YealinkCommand#GET_DEVICES_DETAIL} with {@link #deviceDetailReader}.
+		 *
+		 * @param content raw response
+		 * @return the device detail, or null if the response is empty
+		 * @throws IOException if the response cannot be parsed
+		 */
+		private DeviceDetail readDeviceDetail(byte[] content) throws IOException {
+			return content == null || content.length == 0 ? null : deviceDetailReader.readValue(content);
+		}
+
+		/**
+		 * Walks every page of {@link YealinkCommand#GET_LIST_DEVICES}. Pages are read as raw bytes and parsed by
+		 * {@link DeviceListPage#parse(JsonFactory, byte[])}, so only the fields used by the collector are kept in memory.
+		 * The first page is requested with {@code autoCount} enabled, its {@code total} is then used to plan the remaining
+		 * pages of {@link YealinkConstant#MAX_LIMIT} entries, which are fetched concurrently on {@link #pageExecutorService}, or
+		 * through {@link #asyncHttpTransport} when it is started.
+		 * Each unique entry is handed to {@code entryConsumer} on the calling thread as soon as its page arrives.
+		 *
+		 * @param entryConsumer receives every list entry that has a device id
+		 * @return ids of all listed devices
+		 * @throws Exception if any page cannot be retrieved
+		 */
+		private Set<String> fetchAllDevicePages(Consumer<Map<String, String>> entryConsumer) throws Exception {
+			Map<String, Object> extraField = new HashMap<>();
+			Map<String, String> filterDeviceType = new HashMap<>();
+			if (!Objects.equals(deviceTypeFilter, YealinkConstant.EMPTY)) {
+				filterDeviceType.put(YealinkConstant.DEVICE_TYPE, deviceTypeFilter);
+			}
+			extraField.put(YealinkConstant.FILTER, filterDeviceType);
+
+			Set<String> listedDevices = new HashSet<>();
+			DeviceListPage firstPage = fetchDevicePage(0, extraField);
+			collectPageEntries(firstPage, listedDevices, entryConsumer);
+
+			int total = firstPage.getTotal() != null ? firstPage.getTotal() : listedDevices.size();
+			if (firstPage.getTotal() != null) {
+				cachedDevicesTotal = new CachedValue<>(String.valueOf(firstPage.getTotal()));
+			} else {
+				refreshDevicesTotal();
+			}
+			BlockingQueue<Future<DeviceListPage>> completedPages = new LinkedBlockingQueue<>();
+			CompletionService<DeviceListPage> pageService = new ExecutorCompletionService<>(pageExecutorService, completedPages);
+			List<Future<DeviceListPage>> pages = new ArrayList<>();
+			for (int skip = YealinkConstant.MAX_LIMIT; skip < total; skip += YealinkConstant.MAX_LIMIT) {
+				final int pageSkip = skip;
+				if (asyncHttpTransport != null) {
+					CompletableFuture<DeviceListPage> page = sendAsync(HttpMethod.POST, YealinkCommand.GET_LIST_DEVICES, buildDevicePageBody(pageSkip, extraField),
+							content -> DeviceListPage.parse(objectMapper.getFactory(), content))
+							.thenApply(response -> checkDevicePage(response, pageSkip));
+					pages.add(addOnCompletion(page, completedPages));
+				} else {
+					pages.add(pageService.submit(() -> fetchDevicePage(pageSkip, extraField)));
+				}
+			}
+			try {
+				for (int i = 0; i < pages.size(); i++) {
+					collectPageEntries(completedPages.take().get(), listedDevices, entryConsumer);
+				}
+			} finally {
+				pages.forEach(page -> page.cancel(true));
+			}
+			return listedDevices;
+		}
+
+		/**
+		 * Retrieves a single page of {@link YealinkCommand#GET_LIST_DEVICES}.
+		 *
+		 * @param skip zero-based offset of the page
+		 * @param extraField additional request fields, such as the device type filter
+		 * @return the parsed page
+		 * @throws Exception if the request fails or the response cannot be parsed
+		 */
+		private DeviceListPage fetchDevicePage(int skip, Map<String, Object> extraField) throws Exception {
+			byte[] content = this.doPost(YealinkCommand.GET_LIST_DEVICES, buildDevicePageBody(skip, extraField), byte[].class);
+			return checkDevicePage(content == null || content.length == 0 ? null : DeviceListPage.parse(objectMapper.getFactory(), content), skip);
+		}
+
+		/**
+		 * Builds the request body of a page of {@link YealinkCommand#GET_LIST_DEVICES}.
+		 *
+		 * @param skip zero-based offset of the page
+		 * @param extraField additional request fields, such as the device type filter
+		 * @return request body
+		 */
+		private ObjectNode buildDevicePageBody(int skip, Map<String, Object> extraField) {
+			return Util.buildRequestBody(skip, YealinkConstant.MAX_LIMIT, true, extraField, objectMapper);
+		}
+
+		/**
+		 * Rejects an empty page of {@link YealinkCommand#GET_LIST_DEVICES}.
+		 *
+		 * @param page parsed page, null if the response was empty
+		 * @param skip zero-based offset of the page
+		 * @return the page
+		 * @throws ResourceNotReachableException if the page is empty
+		 */
+		private DeviceListPage checkDevicePage(DeviceListPage page, int skip) {
+			if (page == null) {
+				throw new ResourceNotReachableException("Empty response for list devices page at offset " + skip);
 			}
+			return page;
 		}
 
 		/**
-		 * Puts the provided mapping values into the cached monitoring data for the specified device ID.
+		 * Hands the entries of a list page to {@code entryConsumer}, skipping entries without an id and entries that were
+		 * already listed by another page.
 		 *
-		 * @param deviceId The ID of the device.
-		 * @param mappingValue The mapping values to be added.
+		 * @param page parsed page of the list endpoint
+		 * @param listedDevices ids of the devices listed so far
+		 * @param entryConsumer receives every new list entry
 		 */
-		private void putMapIntoCachedData(String deviceId, Map<String, String> mappingValue) {
-			synchronized (cachedMonitoringDevice) {
-				Map<String, String> map = new HashMap<>();
-				if (cachedMonitoringDevice.get(deviceId) != null) {
-					map = cachedMonitoringDevice.get(deviceId);
+		private void collectPageEntries(DeviceListPage page, Set<String> listedDevices, Consumer<Map<String, String>> entryConsumer) {
+			for (Map<String, String> entry : page.getEntries()) {
+				String deviceId = entry.get(YealinkConstant.ID);
+				if (StringUtils.isNotNullOrEmpty(deviceId) && listedDevices.add(deviceId)) {
+					entryConsumer.accept(entry);
 				}
-				map.putAll(mappingValue);
-				cachedMonitoringDevice.put(deviceId, map);
 			}
 		}
 
 		/**
-		 * Clones and populates a new list of aggregated devices with mapped monitoring properties.
+		 * Populates a new list of aggregated devices with mapped monitoring properties from the current generation of
+		 * {@link #cachedMonitoringDevice} and {@link #cachedAccessories}, and publishes it as {@link #aggregatedDeviceList}
+		 * together with {@link #aggregatedDeviceIndex}.
+		 * Numeric values of {@link #historicalProperties} are moved to the dynamic statistics of each device and sampled into
+		 * {@link #historicalPropertyStore}.
+		 * Called once per collection cycle by {@link YealinkCloudDataLoader}.
 		 *
-		 * @return A new list of {@link AggregatedDevice} objects with mapped monitoring properties.
+		 * @return The published immutable list of {@link AggregatedDevice} objects.
 		 */
 		private List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
-			List<AggregatedDevice> devices = new ArrayList<>();
+			Map<String, Map<String, String>> generation = cachedMonitoringDevice;
+			List<AggregatedDevice> devices = new ArrayList<>(generation.size());
+			Map<String, AggregatedDevice> index = new HashMap<>(generation.size() * 4 / 3 + 1);
+			long timestamp = System.currentTimeMillis();
+			HistoricalPropertyStore historyStore = historicalPropertyStore;
 
-			cachedMonitoringDevice.forEach((deviceId, cachedData) -> {
+			generation.forEach((deviceId, cachedData) -> {
 				AggregatedDevice aggregatedDevice = new AggregatedDevice();
 				String deviceStatus = cachedData.get(AggregatedInformation.DEVICE_STATUS.getName());
 				aggregatedDevice.setDeviceId(deviceId);
@@ -769,26 +2279,78 @@
 				aggregatedDevice.setDeviceOnline(YealinkConstant.DEVICE_ONLINE.equalsIgnoreCase(deviceStatus));
 
 				Map<String, String> stats = new HashMap<>();
-				List<AdvancedControllableProperty> controls = new ArrayList<>();
 				mapMonitorProperty(cachedData, stats);
-				mapAccessory(deviceId, stats);
-				mapControllableProperty(stats, controls);
+				CachedValue<Map<String, String>> accessories = cachedAccessories.get(deviceId);
+				if (accessories != null) {
+					stats.putAll(accessories.getValue());
+				}
+				stats.putAll(diagnosisTracker.getProperties(deviceId));
+				stats.putAll(rebootResults.getOrDefault(deviceId, Collections.emptyMap()));
+				ControlTemplates.putStatistics(stats);
+				Map<String, String> dynamicStatistics = historyStore != null ? historyStore.record(deviceId, timestamp, stats) : Collections.emptyMap();
 
 				aggregatedDevice.setProperties(stats);
-				aggregatedDevice.setTimestamp(System.currentTimeMillis());
-				aggregatedDevice.setDynamicStatistics(Collections.emptyMap());
-				if (!configManagement) {
-					controls.clear();
-					controls.add(ControllablePropertyFactory.createText(YealinkConstant.EMPTY,YealinkConstant.EMPTY));
-				}
-				aggregatedDevice.setControllableProperties(controls);
+				aggregatedDevice.setTimestamp(timestamp);
+				aggregatedDevice.setDynamicStatistics(dynamicStatistics);
+				aggregatedDevice.setControllableProperties(configManagement ? ControlTemplates.createControls() : ControlTemplates.createPlaceholder());
 				devices.add(aggregatedDevice);
+				index.put(deviceId, aggregatedDevice);
 			});
 
-			synchronized (aggregatedDeviceList) {
-				aggregatedDeviceList.clear();
-				aggregatedDeviceList.addAll(devices);
-				return new ArrayList<>(aggregatedDeviceList);
+			if (historyStore != null) {
+				historyStore.retainDevices(generation.keySet());
+			}
+			aggregatedDeviceIndex = Collections.unmodifiableMap(index);
+			aggregatedDeviceList = Collections.unmodifiableList(devices);
+			snapshotTimestamp = timestamp;
+			return aggregatedDeviceList;
+		}
+
+		/**
+		 * Checks whether the accessories of a device are missing or older than {@link #accessoryCacheTtl}.
+		 *
+		 * @param deviceId target device identifier
+		 * @return true if the accessories have to be retrieved again
+		 */
+		private boolean isAccessoryExpired(String deviceId) {
+			CachedValue<Map<String, String>> cached = cachedAccessories.get(deviceId);
+			return cached == null || cached.isExpired(TimeUnit.SECONDS.toMillis(accessoryCacheTtl));
+		}
+
+		/**
+		 * Refreshes the accessories of a device in {@link #cachedAccessories} when they are missing or older than
+		 * {@link #accessoryCacheTtl}. A failure is logged and the previously cached accessories are kept.
+		 *
+		 * @param deviceId target device identifier
+		 * @param force whether to refresh the accessories regardless of their age
+		 */
+		private void refreshAccessories(String deviceId, boolean force) {
+			if (!force && !isAccessoryExpired(deviceId)) {
+				return;
+			}
+			try {
+				Map<String, String> stats = new HashMap<>();
+				mapAccessory(deviceId, stats);
+				cachedAccessories.put(deviceId, new CachedValue<>(Collections.unmodifiableMap(stats)));
+			} catch (Exception e) {
+				logger.error(String.format("Error when retrieving accessories of device %s", deviceId), e);
+			}
+		}
+
+		/**
+		 * Maps a response of {@link YealinkCommand#GET_LIST_ACCESSORY} received through {@link #asyncHttpTransport} and stores
+		 * it in {@link #cachedAccessories}. A mapping failure is logged and the previously cached accessories are kept.
+		 *
+		 * @param deviceId target device identifier
+		 * @param listAccessory entries of the accessory list
+		 */
+		private void storeAccessories(String deviceId, AccessoryInfo[] listAccessory) {
+			try {
+				Map<String, String> stats = new HashMap<>();
+				mapAccessoryList(listAccessory, stats);
+				cachedAccessories.put(deviceId, new CachedValue<>(Collections.unmodifiableMap(stats)));
+			} catch (Exception e) {
+				logger.error(String.format("Error when mapping accessories of device %s", deviceId), e);
 			}
 		}
 
@@ -801,33 +2363,66 @@
 		private void mapAccessory(String deviceId, Map<String, String> stats) {
 			try{
 				ObjectNode body = Util.buildRequestBody(0, 20, true, null, objectMapper);
-				JsonNode listAccessory = this.doPost(String.format(YealinkCommand.GET_LIST_ACCESSORY, deviceId), body, JsonNode.class );
-				if(listAccessory != null && listAccessory.has(YealinkConstant.DATA) && listAccessory.get(YealinkConstant.DATA).isArray()){
-					for (JsonNode item : listAccessory.get(YealinkConstant.DATA)){
-						String group = item.get(YealinkConstant.MODEL_NAME).asText();
-						for (Accessory accessory : Accessory.values()){
-							String nameProperty = accessory.getName();
-							String value = item.get(accessory.getField()).asText();
-							switch (accessory){
-								case LAST_REPORT_TIME:
-									long lastReportTime = Long.parseLong(value);
-									stats.put(YealinkConstant.ACCESSORY + group + YealinkConstant.HASH + nameProperty, Util.formatEpochUtc(lastReportTime));
-									break;
-								case CONN_STATUS:
-									stats.put(YealinkConstant.ACCESSORY + group + YealinkConstant.HASH + nameProperty, Objects.equals(value, "0") ? "Offline" : "Online");
-									break;
-								case CONNECT_WAY:
-									stats.put(YealinkConstant.ACCESSORY + group + YealinkConstant.HASH + nameProperty, Util.getDefaultValueForNullData(Util.uppercaseFirstCharacter(value.toLowerCase())));
-									break;
-								default:
-									stats.put(YealinkConstant.ACCESSORY + group + YealinkConstant.HASH + nameProperty, Util.getDefaultValueForNullData(value));
-									break;
-							}
+				byte[] listAccessory = this.doPost(String.format(YealinkCommand.GET_LIST_ACCESSORY, deviceId), body, byte[].class);
+				mapAccessoryList(readAccessories(listAccessory), stats);
+			}catch (Exception e) {
+				throw new ResourceNotReachableException("Error when retrieving list accessory info", e);
+			}
+		}
+
+		/**
+		 * Reads the entries of a response of {@link YealinkCommand#GET_LIST_ACCESSORY} with {@link #accessoryListReader}.
+		 *
+		 * @param content raw response
+		 * @return the entries, or null if the response is empty or has no {@code data} array
+		 * @throws IOException if the response cannot be parsed
+		 */
+		private AccessoryInfo[] readAccessories(byte[] content) throws IOException {
+			if (content == null || content.length == 0) {
+				return null;
+			}
+			AccessoryList listAccessory = accessoryListReader.readValue(content);
+			return listAccessory.getData();
+		}
+
+		/**
+		 * Maps the entries of a response of {@link YealinkCommand#GET_LIST_ACCESSORY} into {@code stats}.
+		 * A missing or non-numeric lastReportTime maps to {@link YealinkConstant#NOT_AVAILABLE} without affecting the other
+		 * fields.
+		 * @param listAccessory entries of the accessory list
+		 * @param stats destination map to receive accessory fields
+		 */
+		private void mapAccessoryList(AccessoryInfo[] listAccessory, Map<String, String> stats) {
+			if(listAccessory != null){
+				for (AccessoryInfo item : listAccessory){
+					String[] keys = accessoryKeyTable.getKeys(item.getModelName());
+					for (Accessory accessory : Accessory.values()){
+						String key = keys[accessory.ordinal()];
+						String value = item.getValue(accessory);
+						switch (accessory){
+							case LAST_REPORT_TIME:
+								String lastReportTime = YealinkConstant.NOT_AVAILABLE;
+								if (value != null) {
+									try {
+										lastReportTime = valueFormatter.formatEpoch(Long.parseLong(value));
+									} catch (NumberFormatException e) {
+										logger.warn(String.format("Invalid accessory lastReportTime %s", value));
+									}
+								}
+								stats.put(key, lastReportTime);
+								break;
+							case CONN_STATUS:
+								stats.put(key, Objects.equals(value, "0") ? "Offline" : "Online");
+								break;
+							case CONNECT_WAY:
+								stats.put(key, valueFormatter.formatCapitalized(value));
+								break;
+							default:
+								stats.put(key, valueFormatter.formatDefault(value));
+								break;
 						}
 					}
 				}
-			}catch (Exception e) {
-				throw new ResourceNotReachableException("Error when retrieving list accessory info", e);
 			}
 		}
 
@@ -840,18 +2435,18 @@
 		private void mapMonitorProperty(Map<String, String> cachedValue, Map<String, String> stats) {
 			try{
 				for (AggregatedInformation item : AggregatedInformation.values()) {
-					String name = item.getGroup() + item.getName();
+					String name = item.getPropertyName();
 					String value = cachedValue.get(name);
 					switch (item) {
 						case LAST_REPORT_TIME:
 							long lastReportTime = Long.parseLong(value);
-							stats.put(name, Util.formatEpochUtc(lastReportTime));
+							stats.put(name, valueFormatter.formatEpoch(lastReportTime));
 							break;
 						case NAME:
 							stats.remove(name);
 							break;
 						default:
-							stats.put(name, Util.getDefaultValueForNullData(value));
+							stats.put(name, valueFormatter.formatDefault(value));
 							break;
 					}
 				}
@@ -861,31 +2456,174 @@
 		}
 
 		/**
-		 * Maps controllable properties to the provided stats and advancedControllableProperties lists.
+		 * Retrieves the primary network interface for a device from {@link #cachedNetworkInterfaces}, requesting it only
+		 * if the background loader did not collect it yet.
+		 *
+		 * @param deviceId target device id
+		 * @return the network interface
+		 * @throws IllegalArgumentException if the network interface of the device cannot be retrieved
+		 */
+		private String getNetWorkInterface(String deviceId) {
+			CachedValue<String> cached = cachedNetworkInterfaces.get(deviceId);
+			if (cached == null || cached.isExpired(YealinkConstant.NETWORK_INTERFACE_CACHE_TTL)) {
+				refreshNetworkInterface(deviceId);
+				cached = cachedNetworkInterfaces.get(deviceId);
+			}
+			if (cached == null) {
+				throw new IllegalArgumentException(String.format("Unable to retrieve the network interface of device %s", deviceId));
+			}
+			return cached.getValue();
+		}
+
+		/**
+		 * Checks whether the network interface of a device is missing or older than {@link YealinkConstant#NETWORK_INTERFACE_CACHE_TTL}.
 		 *
-		 * @param stats A map containing the statistics to be populated with controllable properties.
-		 * @param control A list of AdvancedControllableProperty objects to be populated with controllable properties.
+		 * @param deviceId target device id
+		 * @return true if the network interface has to be retrieved again
 		 */
-		private void mapControllableProperty(Map<String, String> stats, List<AdvancedControllableProperty> control) {
-			Util.addAdvancedControlProperties(control, stats, Util.createButton(YealinkConstant.CONTROL_MANAGEMENT + YealinkConstant.HASH + YealinkConstant.REBOOT, "Reboot", "Rebooting", TimeUnit.MINUTES.toMillis(3)), YealinkConstant.NONE);
-			Util.addAdvancedControlProperties(control, stats, Util.createButton(YealinkConstant.CONTROL_MANAGEMENT + YealinkConstant.HASH + YealinkConstant.PACKET_CAPTURE, "Active", "Activating", 0), YealinkConstant.NONE);
-			Util.addAdvancedControlProperties(control, stats, Util.createButton(YealinkConstant.CONTROL_MANAGEMENT + YealinkConstant.HASH + YealinkConstant.EXPORT_LOG, "Export", "Exporting", 0), YealinkConstant.NONE);
-			Util.addAdvancedControlProperties(control, stats, Util.createButton(YealinkConstant.CONTROL_MANAGEMENT + YealinkConstant.HASH + YealinkConstant.SCREEN_CAPTURE, "Active", "Activating", 0), YealinkConstant.NONE);
+		private boolean isNetworkInterfaceExpired(String deviceId) {
+			CachedValue<String> cached = cachedNetworkInterfaces.get(deviceId);
+			return cached == null || cached.isExpired(YealinkConstant.NETWORK_INTERFACE_CACHE_TTL);
 		}
 
 		/**
-		 * Retrieves the primary network interface for a device.
+		 * Requests the primary network interface of a device and stores it in {@link #cachedNetworkInterfaces}.
+		 * A failure or an empty response is logged and the previously cached interface is kept.
 		 *
 		 * @param deviceId target device id
 		 */
-		private String getNetWorkInterface(String deviceId) {
-			try{
-				JsonNode response = this.doGet(String.format(YealinkCommand.GET_NETWORK_INTERFACE, deviceId), JsonNode.class);
-				return response.get(0).asText();
-			}catch (Exception e){
-				logger.error("Can not get network interface");
+		private void refreshNetworkInterface(String deviceId) {
+			try {
+				storeNetworkInterface(deviceId, this.doGet(String.format(YealinkCommand.GET_NETWORK_INTERFACE, deviceId), JsonNode.class));
+			} catch (Exception e) {
+				logger.error(String.format("Can not get network interface of device %s", deviceId), e);
 			}
-			return null;
+		}
+
+		/**
+		 * Stores the primary network interface of a device in {@link #cachedNetworkInterfaces}.
+		 * An empty response is logged and the previously cached interface is kept.
+		 *
+		 * @param deviceId target device id
+		 * @param response response of {@link YealinkCommand#GET_NETWORK_INTERFACE}
+		 */
+		private void storeNetworkInterface(String deviceId, JsonNode response) {
+			String networkInterface = response == null ? null : response.path(0).asText(null);
+			if (StringUtils.isNullOrEmpty(networkInterface)) {
+				logger.error(String.format("Empty network interface list for device %s", deviceId));
+				return;
+			}
+			cachedNetworkInterfaces.put(deviceId, new CachedValue<>(networkInterface));
+		}
+
+		/**
+		 * Resolves the device type sent with a reboot request: the type reported for the device, then
+		 * {@link #deviceTypeFilter}, then {@link YealinkConstant#DEFAULT_TYPE_TO_REBOOT}.
+		 *
+		 * @param deviceId target device id
+		 * @return device type code
+		 */
+		private String resolveRebootDeviceType(String deviceId) {
+			Map<String, String> cachedData = cachedMonitoringDevice.get(deviceId);
+			String deviceType = cachedData == null ? null : cachedData.get(YealinkConstant.DEVICE_TYPE);
+			if (StringUtils.isNotNullOrEmpty(deviceType)) {
+				return deviceType;
+			}
+			return !YealinkConstant.EMPTY.equals(deviceTypeFilter) ? deviceTypeFilter : YealinkConstant.DEFAULT_TYPE_TO_REBOOT;
+		}
+
+		/**
+		 * Reboots devices of the same type in chunks of {@link YealinkConstant#REBOOT_BATCH_SIZE}, holding the control locks
+		 * of every device of a chunk while its request runs, and records the result of each device in {@link #rebootResults}.
+		 *
+		 * @param deviceType device type code of all devices
+		 * @param deviceIds ids of the devices to reboot
+		 */
+		private void rebootInBatches(String deviceType, Set<String> deviceIds) {
+			List<String> ids = new ArrayList<>(deviceIds);
+			for (int from = 0; from < ids.size(); from += YealinkConstant.REBOOT_BATCH_SIZE) {
+				List<String> chunk = ids.subList(from, Math.min(from + YealinkConstant.REBOOT_BATCH_SIZE, ids.size()));
+				Iterable<Lock> locks = deviceControlLocks.bulkGet(chunk);
+				locks.forEach(Lock::lock);
+				try {
+					Set<String> failedIds = rebootDevices(deviceType, chunk);
+					for (String id : chunk) {
+						recordRebootResult(id, !failedIds.contains(id));
+						if (failedIds.contains(id)) {
+							logger.error(String.format("Error when control property %s on device %s", YealinkConstant.REBOOT, id));
+						} else if (logger.isDebugEnabled()) {
+							logger.debug(String.format("Control property %s succeeded on device %s", YealinkConstant.REBOOT, id));
+						}
+					}
+				} catch (Exception e) {
+					chunk.forEach(id -> recordRebootResult(id, false));
+					logger.error(String.format("Error when control property %s on devices %s", YealinkConstant.REBOOT, chunk), e);
+				} finally {
+					locks.forEach(Lock::unlock);
+				}
+			}
+		}
+
+		/**
+		 * Records the result of a reboot in {@link #rebootResults} and schedules a rebuild of the aggregated devices
+		 *
+		 * @param deviceId id of the rebooted device
+		 * @param succeeded whether the API accepted the reboot of the device
+		 */
+		private void recordRebootResult(String deviceId, boolean succeeded) {
+			Map<String, String> result = new HashMap<>();
+			result.put(YealinkConstant.REBOOT + YealinkConstant.HASH + YealinkConstant.REBOOT_LAST_RESULT, succeeded ? YealinkConstant.REBOOT_SUCCEEDED : YealinkConstant.REBOOT_FAILED);
+			result.put(YealinkConstant.REBOOT + YealinkConstant.HASH + YealinkConstant.DIAGNOSIS_LAST_UPDATE, valueFormatter.formatEpoch(System.currentTimeMillis()));
+			rebootResults.put(deviceId, Collections.unmodifiableMap(result));
+			aggregatedDeviceListOutdated = true;
+		}
+
+		/**
+		 * Sends a single {@link YealinkCommand#REBOOT_URI} request for several devices.
+		 *
+		 * @param deviceType device type code of all devices
+		 * @param deviceIds ids of the devices to reboot
+		 * @return ids of the devices reported as failed by the API
+		 * @throws Exception if the request fails
+		 */
+		private Set<String> rebootDevices(String deviceType, List<String> deviceIds) throws Exception {
+			ObjectNode payload = objectMapper.createObjectNode();
+			ArrayNode idsNode = payload.putArray(YealinkConstant.DEVICE_IDS);
+			deviceIds.forEach(idsNode::add);
+			payload.put(YealinkConstant.DEVICE_TYPE, deviceType);
+			JsonNode response = doPost(YealinkCommand.REBOOT_URI, payload, JsonNode.class);
+			return extractFailedDeviceIds(response, deviceIds);
+		}
+
+		/**
+		 * Extracts the devices reported in {@link YealinkConstant#ERROR} of a multi-device response.
+		 * When {@link YealinkConstant#FAILURE_COUNT} is higher than the failures that name a device, a single-device request
+		 * is considered failed, otherwise the unattributed failures are logged.
+		 *
+		 * @param response response of the multi-device request
+		 * @param deviceIds ids of the devices sent in the request
+		 * @return ids of the failed devices
+		 */
+		Set<String> extractFailedDeviceIds(JsonNode response, List<String> deviceIds) {
+			Set<String> failedIds = new HashSet<>();
+			if (response == null || response.isNull()) {
+				return failedIds;
+			}
+			for (JsonNode error : response.path(YealinkConstant.ERROR)) {
+				String id = error.isTextual() ? error.asText() : error.path("deviceId").asText(error.path(YealinkConstant.ID).asText());
+				if (deviceIds.contains(id)) {
+					failedIds.add(id);
+				}
+			}
+			int failureCount = response.path(YealinkConstant.FAILURE_COUNT).asInt(0);
+			if (failureCount > failedIds.size()) {
+				if (deviceIds.size() == 1) {
+					failedIds.addAll(deviceIds);
+				} else if (logger.isWarnEnabled()) {
+					logger.warn(String.format("%d of %d devices failed without a device id in the response: %s", failureCount - failedIds.size(), deviceIds.size(), response));
+				}
+			}
+			return failedIds;
 		}
 
 		/**
@@ -909,13 +2647,78 @@
 		 * @param uri      target endpoint
 		 * @param payload  request body to send
 		 * @param property logical operation name for error context
+		 * @return the response of the request
 		 */
-		private void putAndCheck(String uri, Object payload, String property) throws Exception {
+		private JsonNode putAndCheck(String uri, Object payload, String property) throws Exception {
 			JsonNode resp = doPut(uri, payload, JsonNode.class);
 			if (resp != null && resp.has(YealinkConstant.ERROR)) {
 				throw new RuntimeException(
 						String.format("An error occurred during %s: %s", property, resp.get(YealinkConstant.ERROR)));
 			}
+			return resp;
+		}
+
+		/**
+		 * Rejects a diagnosis control while the previous diagnosis of the same type on the device is still running,
+		 * without calling the API.
+		 *
+		 * @param deviceId target device id
+		 * @param type diagnosis type, the name of the control
+		 * @param property full name of the controlled property
+		 */
+		private void checkDiagnosisNotInProgress(String deviceId, String type, String property) {
+			if (diagnosisTracker.isInProgress(deviceId, type)) {
+				throw new IllegalArgumentException(property + " is still in progress, please try again later");
+			}
+		}
+
+		/**
+		 * Extracts the diagnosis task id from the response of a diagnosis control.
+		 *
+		 * @param response response of the diagnosis control
+		 * @return the task id, or null if the response does not hold one
+		 */
+		private String extractDiagnosisId(JsonNode response) {
+			if (response == null) {
+				return null;
+			}
+			JsonNode data = response.has(YealinkConstant.DATA) ? response.get(YealinkConstant.DATA) : response;
+			if (data.isValueNode()) {
+				return StringUtils.isNotNullOrEmpty(data.asText()) ? data.asText() : null;
+			}
+			for (String field : Arrays.asList(YealinkConstant.DIAGNOSIS_ID_FIELD, YealinkConstant.ID)) {
+				if (data.hasNonNull(field)) {
+					return data.get(field).asText();
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Retrieves the status of a diagnosis task, called by {@link #diagnosisTracker}.
+		 *
+		 * @param diagnosisId id of the diagnosis task
+		 * @return status response
+		 * @throws Exception if the request fails
+		 */
+		private JsonNode retrieveDiagnosisStatus(String diagnosisId) throws Exception {
+			return doGet(String.format(YealinkCommand.STATUS_OF_DIAGNOSIS, diagnosisId), JsonNode.class);
+		}
+
+		/**
+		 * Refreshes {@link #cachedDevicesTotal} from {@link YealinkCommand#GET_DEVICE_COUNT} once it is older than
+		 * {@link YealinkConstant#DEVICE_COUNT_CACHE_TTL}. On failure the stale value keeps being served.
+		 */
+		private void refreshDevicesTotal() {
+			CachedValue<String> devicesTotal = cachedDevicesTotal;
+			if (devicesTotal != null && !devicesTotal.isExpired(YealinkConstant.DEVICE_COUNT_CACHE_TTL)) {
+				return;
+			}
+			try {
+				cachedDevicesTotal = new CachedValue<>(getDeviceCount());
+			} catch (Exception e) {
+				logger.error("Error when retrieving the total device count, keeping the last known value", e);
+			}
 		}
 
 		/**
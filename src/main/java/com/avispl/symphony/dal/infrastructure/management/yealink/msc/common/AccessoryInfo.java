@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.metric.Accessory;
+
+/**
+ * AccessoryInfo class represents an entry of a {@code dm/devices/{id}/listParts} response.
+ * Other fields of the entry are ignored while reading.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AccessoryInfo {
+	private String id;
+	private String mac;
+	private String sn;
+	private String modelId;
+	private String modelName;
+	private String connectWay;
+	private String connStatus;
+	private String lanIp;
+	private String programVersion;
+	private String lastReportTime;
+
+	/**
+	 * Retrieves the value of an {@link Accessory} field
+	 *
+	 * @param accessory the field
+	 * @return value of the field, null if the entry did not hold it
+	 */
+	public String getValue(Accessory accessory) {
+		switch (accessory) {
+			case ACCESSORY_ID:
+				return id;
+			case MAC:
+				return mac;
+			case SN:
+				return sn;
+			case MODEL_ID:
+				return modelId;
+			case MODEL_NAME:
+				return modelName;
+			case CONNECT_WAY:
+				return connectWay;
+			case CONN_STATUS:
+				return connStatus;
+			case LAN_IP:
+				return lanIp;
+			case PROGRAM_VERSION:
+				return programVersion;
+			case LAST_REPORT_TIME:
+				return lastReportTime;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Retrieves {@link #modelName}
+	 *
+	 * @return value of {@link #modelName}
+	 */
+	public String getModelName() {
+		return modelName;
+	}
+
+	/**
+	 * Sets {@link #id} value
+	 *
+	 * @param id new value of {@link #id}
+	 */
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	/**
+	 * Sets {@link #mac} value
+	 *
+	 * @param mac new value of {@link #mac}
+	 */
+	public void setMac(String mac) {
+		this.mac = mac;
+	}
+
+	/**
+	 * Sets {@link #sn} value
+	 *
+	 * @param sn new value of {@link #sn}
+	 */
+	public void setSn(String sn) {
+		this.sn = sn;
+	}
+
+	/**
+	 * Sets {@link #modelId} value
+	 *
+	 * @param modelId new value of {@link #modelId}
+	 */
+	public void setModelId(String modelId) {
+		this.modelId = modelId;
+	}
+
+	/**
+	 * Sets {@link #modelName} value
+	 *
+	 * @param modelName new value of {@link #modelName}
+	 */
+	public void setModelName(String modelName) {
+		this.modelName = modelName;
+	}
+
+	/**
+	 * Sets {@link #connectWay} value
+	 *
+	 * @param connectWay new value of {@link #connectWay}
+	 */
+	public void setConnectWay(String connectWay) {
+		this.connectWay = connectWay;
+	}
+
+	/**
+	 * Sets {@link #connStatus} value
+	 *
+	 * @param connStatus new value of {@link #connStatus}
+	 */
+	public void setConnStatus(String connStatus) {
+		this.connStatus = connStatus;
+	}
+
+	/**
+	 * Sets {@link #lanIp} value
+	 *
+	 * @param lanIp new value of {@link #lanIp}
+	 */
+	public void setLanIp(String lanIp) {
+		this.lanIp = lanIp;
+	}
+
+	/**
+	 * Sets {@link #programVersion} value
+	 *
+	 * @param programVersion new value of {@link #programVersion}
+	 */
+	public void setProgramVersion(String programVersion) {
+		this.programVersion = programVersion;
+	}
+
+	/**
+	 * Sets {@link #lastReportTime} value
+	 *
+	 * @param lastReportTime new value of {@link #lastReportTime}
+	 */
+	public void setLastReportTime(String lastReportTime) {
+		this.lastReportTime = lastReportTime;
+	}
+}
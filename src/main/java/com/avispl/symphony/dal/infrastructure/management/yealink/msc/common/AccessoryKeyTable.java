@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkConstant;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.metric.Accessory;
+
+/**
+ * AccessoryKeyTable holds the statistics keys of accessory properties, {@code Accessory_<modelName>#<property>}.
+ * The keys of a model are built once, the first time the model is seen, and shared by every device reporting it.
+ * Model names are a small set, the table stops growing after {@link #MAX_MODELS} entries and builds the keys
+ * of further models on each call instead.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class AccessoryKeyTable {
+	/**
+	 * Maximum number of models kept in the table
+	 */
+	private static final int MAX_MODELS = 256;
+
+	private final Map<String, String[]> keysByModel = new ConcurrentHashMap<>();
+
+	/**
+	 * Retrieves the statistics keys of a model, indexed by {@link Accessory#ordinal()}
+	 *
+	 * @param modelName model name of the accessory, null is keyed as {@code "null"}
+	 * @return the keys of the model, shared and not to be modified
+	 */
+	public String[] getKeys(String modelName) {
+		String model = String.valueOf(modelName);
+		String[] keys = keysByModel.get(model);
+		if (keys != null) {
+			return keys;
+		}
+		if (keysByModel.size() >= MAX_MODELS) {
+			return buildKeys(model);
+		}
+		return keysByModel.computeIfAbsent(model, AccessoryKeyTable::buildKeys);
+	}
+
+	/**
+	 * Removes every model from the table
+	 */
+	public void clear() {
+		keysByModel.clear();
+	}
+
+	/**
+	 * Builds the statistics keys of a model
+	 *
+	 * @param model model name of the accessory
+	 * @return the keys of the model, indexed by {@link Accessory#ordinal()}
+	 */
+	private static String[] buildKeys(String model) {
+		Accessory[] accessories = Accessory.values();
+		String[] keys = new String[accessories.length];
+		for (Accessory accessory : accessories) {
+			keys[accessory.ordinal()] = (YealinkConstant.ACCESSORY + model + YealinkConstant.HASH + accessory.getName()).intern();
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * AccessoryList class represents a {@code dm/devices/{id}/listParts} response.
+ * Other fields of the response are ignored while reading.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AccessoryList {
+	private AccessoryInfo[] data;
+
+	/**
+	 * Retrieves {@link #data}
+	 *
+	 * @return value of {@link #data}
+	 */
+	public AccessoryInfo[] getData() {
+		return data;
+	}
+
+	/**
+	 * Sets {@link #data} value
+	 *
+	 * @param data new value of {@link #data}
+	 */
+	public void setData(AccessoryInfo[] data) {
+		this.data = data;
+	}
+}
@@ -25,6 +25,7 @@ public enum AggregatedInformation {
 	private final String name;
 	private final String field;
 	private final String group;
+	private final String propertyName;
 
 	/**
 	 * Constructor for AggregatedInformation.
@@ -36,6 +37,7 @@ public enum AggregatedInformation {
 		this.name = name;
 		this.field = field;
 		this.group = group;
+		this.propertyName = group + name;
 	}
 
 	/**
@@ -64,4 +66,13 @@ public enum AggregatedInformation {
 	public String getGroup() {
 		return group;
 	}
+
+	/**
+	 * Retrieves {@link #propertyName}, the statistics key of the information built once from {@link #group} and {@link #name}
+	 *
+	 * @return value of {@link #propertyName}
+	 */
+	public String getPropertyName() {
+		return propertyName;
+	}
 }
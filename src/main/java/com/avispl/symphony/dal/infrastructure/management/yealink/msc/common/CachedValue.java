@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+/**
+ * CachedValue class represents a value retrieved from the Yealink API together with the time it was retrieved.
+ * Instances are immutable, a refresh replaces the whole entry.
+ *
+ * @param <T> type of the cached value
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class CachedValue<T> {
+	private final T value;
+	private final long retrievedTimestamp;
+
+	/**
+	 * Create an instance of CachedValue retrieved now
+	 *
+	 * @param value the cached value
+	 */
+	public CachedValue(T value) {
+		this(value, System.currentTimeMillis());
+	}
+
+	/**
+	 * Create an instance of CachedValue
+	 *
+	 * @param value the cached value
+	 * @param retrievedTimestamp time the value was retrieved, in milliseconds
+	 */
+	public CachedValue(T value, long retrievedTimestamp) {
+		this.value = value;
+		this.retrievedTimestamp = retrievedTimestamp;
+	}
+
+	/**
+	 * Retrieves {@link #value}
+	 *
+	 * @return value of {@link #value}
+	 */
+	public T getValue() {
+		return value;
+	}
+
+	/**
+	 * Retrieves {@link #retrievedTimestamp}
+	 *
+	 * @return value of {@link #retrievedTimestamp}
+	 */
+	public long getRetrievedTimestamp() {
+		return retrievedTimestamp;
+	}
+
+	/**
+	 * Checks whether the value is older than the given time to live
+	 *
+	 * @param ttlMillis time to live in milliseconds
+	 * @return true if the value has to be retrieved again
+	 */
+	public boolean isExpired(long ttlMillis) {
+		return System.currentTimeMillis() - retrievedTimestamp >= ttlMillis;
+	}
+}
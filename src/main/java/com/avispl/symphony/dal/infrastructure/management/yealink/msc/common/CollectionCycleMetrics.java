@@ -0,0 +1,227 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CollectionCycleMetrics records how one collection cycle spent its time and what it did with each listed device.
+ * Every phase is measured as wall time. Detail and accessory fetches run concurrently and overlap with list paging, so each
+ * of these phases spans from its first request dispatched to its last request completed. Counters are updated from the
+ * collector and worker threads.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class CollectionCycleMetrics {
+	/**
+	 * Wall time of a phase made of concurrent requests, from the first request dispatched to the last request completed
+	 */
+	private static final class PhaseSpan {
+		private static final long NONE = Long.MIN_VALUE;
+		private final AtomicLong firstDispatchNanos = new AtomicLong(NONE);
+		private final AtomicLong lastCompletionNanos = new AtomicLong(NONE);
+
+		private void dispatched() {
+			firstDispatchNanos.compareAndSet(NONE, System.nanoTime());
+		}
+
+		private void completed() {
+			lastCompletionNanos.accumulateAndGet(System.nanoTime(), Math::max);
+		}
+
+		private long getNanos() {
+			long first = firstDispatchNanos.get();
+			long last = lastCompletionNanos.get();
+			return first == NONE || last == NONE ? 0 : Math.max(0, last - first);
+		}
+	}
+
+	private final long startNanos = System.nanoTime();
+	private final PhaseSpan detailFetch = new PhaseSpan();
+	private final PhaseSpan accessoryFetch = new PhaseSpan();
+	private final AtomicInteger detailFetches = new AtomicInteger();
+	private final AtomicInteger detailFailures = new AtomicInteger();
+	private final AtomicInteger devicesProcessed = new AtomicInteger();
+	private final AtomicInteger devicesSkipped = new AtomicInteger();
+	private final AtomicInteger devicesPending = new AtomicInteger();
+	private final AtomicInteger cacheLookups = new AtomicInteger();
+	private final AtomicInteger cacheHits = new AtomicInteger();
+	private volatile long listPagingNanos;
+	private volatile long snapshotMappingNanos;
+	private volatile long totalNanos;
+
+	/**
+	 * Records the cache lookups of a listed device
+	 *
+	 * @param detailCached whether the cached detail of the device is reused
+	 * @param accessoriesCached whether the cached accessories of the device are reused
+	 */
+	public void deviceListed(boolean detailCached, boolean accessoriesCached) {
+		cacheLookups.addAndGet(2);
+		cacheHits.addAndGet((detailCached ? 1 : 0) + (accessoriesCached ? 1 : 0));
+	}
+
+	/**
+	 * Records a listed device that needs no request in this cycle
+	 */
+	public void deviceSkipped() {
+		devicesSkipped.incrementAndGet();
+	}
+
+	/**
+	 * Records a device whose requests were dispatched
+	 */
+	public void deviceDispatched() {
+		devicesProcessed.incrementAndGet();
+		devicesPending.incrementAndGet();
+	}
+
+	/**
+	 * Records a dispatched device whose requests are all finished
+	 */
+	public void deviceCompleted() {
+		devicesPending.decrementAndGet();
+	}
+
+	/**
+	 * Records a device detail request handed to a worker or to the non-blocking transport
+	 */
+	public void detailFetchDispatched() {
+		detailFetch.dispatched();
+	}
+
+	/**
+	 * Records a completed device detail request
+	 *
+	 * @param failed whether no detail could be mapped from the request
+	 */
+	public void detailFetchCompleted(boolean failed) {
+		detailFetch.completed();
+		detailFetches.incrementAndGet();
+		if (failed) {
+			detailFailures.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Records an accessory request handed to a worker or to the non-blocking transport
+	 */
+	public void accessoryFetchDispatched() {
+		accessoryFetch.dispatched();
+	}
+
+	/**
+	 * Records a completed accessory request
+	 */
+	public void accessoryFetchCompleted() {
+		accessoryFetch.completed();
+	}
+
+	/**
+	 * Sets the wall time spent walking the device list
+	 *
+	 * @param nanos duration of list paging
+	 */
+	public void setListPaging(long nanos) {
+		listPagingNanos = nanos;
+	}
+
+	/**
+	 * Sets the wall time spent building the aggregated device snapshot
+	 *
+	 * @param nanos duration of snapshot mapping
+	 */
+	public void setSnapshotMapping(long nanos) {
+		snapshotMappingNanos = nanos;
+	}
+
+	/**
+	 * Marks the cycle as finished
+	 */
+	public void finish() {
+		totalNanos = System.nanoTime() - startNanos;
+	}
+
+	/**
+	 * @return wall time of the whole cycle in milliseconds, 0 until the cycle is finished
+	 */
+	public long getTotalMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+	}
+
+	/**
+	 * @return wall time of list paging in milliseconds
+	 */
+	public long getListPagingMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(listPagingNanos);
+	}
+
+	/**
+	 * @return wall time from the first device detail request dispatched to the last one completed, in milliseconds
+	 */
+	public long getDetailFetchMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(detailFetch.getNanos());
+	}
+
+	/**
+	 * @return wall time from the first accessory request dispatched to the last one completed, in milliseconds
+	 */
+	public long getAccessoryFetchMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(accessoryFetch.getNanos());
+	}
+
+	/**
+	 * @return wall time of snapshot mapping in milliseconds
+	 */
+	public long getSnapshotMappingMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(snapshotMappingNanos);
+	}
+
+	/**
+	 * @return number of device detail requests
+	 */
+	public int getDetailFetches() {
+		return detailFetches.get();
+	}
+
+	/**
+	 * @return number of device detail requests that mapped no detail
+	 */
+	public int getDetailFailures() {
+		return detailFailures.get();
+	}
+
+	/**
+	 * @return number of devices whose requests were dispatched
+	 */
+	public int getDevicesProcessed() {
+		return devicesProcessed.get();
+	}
+
+	/**
+	 * @return number of listed devices that needed no request
+	 */
+	public int getDevicesSkipped() {
+		return devicesSkipped.get();
+	}
+
+	/**
+	 * @return number of dispatched devices whose requests are not finished yet
+	 */
+	public int getDevicesPending() {
+		return devicesPending.get();
+	}
+
+	/**
+	 * @return percentage of detail and accessory lookups served from cache, 0 if no device was listed
+	 */
+	public double getCacheHitRatio() {
+		int lookups = cacheLookups.get();
+		return lookups == 0 ? 0 : Math.round(cacheHits.get() * 10000.0 / lookups) / 100.0;
+	}
+}
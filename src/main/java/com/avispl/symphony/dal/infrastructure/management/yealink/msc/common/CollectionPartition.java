@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * CollectionPartition holds the devices of one partition of the device list and the schedule of their refresh.
+ * Each partition runs at most one refresh at a time. A failed refresh postpones the next one with an exponential
+ * backoff, without affecting the schedule of the other partitions.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class CollectionPartition {
+	private final String key;
+	private final AtomicBoolean running = new AtomicBoolean();
+	private volatile List<Map<String, String>> entries = Collections.emptyList();
+	private volatile long nextRunTimestamp;
+	private volatile int consecutiveFailures;
+	private volatile CollectionCycleMetrics currentRun;
+	private volatile CollectionCycleMetrics lastRun;
+
+	/**
+	 * Create an instance of CollectionPartition
+	 *
+	 * @param key key of the partition, see {@link PartitionMode#partitionKey(Map, int)}
+	 */
+	public CollectionPartition(String key) {
+		this.key = key;
+	}
+
+	/**
+	 * Retrieves {@link #key}
+	 *
+	 * @return value of {@link #key}
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Retrieves {@link #entries}
+	 *
+	 * @return device list entries of the partition
+	 */
+	public List<Map<String, String>> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Retrieves {@link #consecutiveFailures}
+	 *
+	 * @return number of refreshes that failed since the last successful one
+	 */
+	public int getConsecutiveFailures() {
+		return consecutiveFailures;
+	}
+
+	/**
+	 * Retrieves {@link #currentRun}
+	 *
+	 * @return metrics of the refresh in progress, or of the last one, null before the first refresh
+	 */
+	public CollectionCycleMetrics getCurrentRun() {
+		return currentRun;
+	}
+
+	/**
+	 * Retrieves {@link #lastRun}
+	 *
+	 * @return metrics of the last finished refresh, null before the first one finishes
+	 */
+	public CollectionCycleMetrics getLastRun() {
+		return lastRun;
+	}
+
+	/**
+	 * Replaces the entries of the partition with those of a new device list walk.
+	 * Unless the partition is backing off, it becomes due right away, so changes of the list are picked up quickly.
+	 *
+	 * @param entries device list entries of the partition
+	 */
+	public void assign(List<Map<String, String>> entries) {
+		this.entries = Collections.unmodifiableList(entries);
+		if (consecutiveFailures == 0) {
+			nextRunTimestamp = 0;
+		}
+	}
+
+	/**
+	 * Starts a refresh if the partition is due and no refresh is running.
+	 * The metrics of the new refresh are only created once it is started, see {@link #getCurrentRun()}.
+	 *
+	 * @param now current time in milliseconds
+	 * @return true if the refresh was started and has to be finished by {@link #finish(boolean, long, long)}
+	 */
+	public boolean tryStart(long now) {
+		if (nextRunTimestamp > now || !running.compareAndSet(false, true)) {
+			return false;
+		}
+		currentRun = new CollectionCycleMetrics();
+		return true;
+	}
+
+	/**
+	 * Finishes the running refresh and schedules the next one
+	 *
+	 * @param succeeded whether the refresh succeeded
+	 * @param interval time between two successful refreshes, in milliseconds
+	 * @param maxBackoff maximum time between two failed refreshes, in milliseconds
+	 */
+	public void finish(boolean succeeded, long interval, long maxBackoff) {
+		CollectionCycleMetrics run = currentRun;
+		run.finish();
+		lastRun = run;
+		if (succeeded) {
+			consecutiveFailures = 0;
+			nextRunTimestamp = System.currentTimeMillis() + interval;
+		} else {
+			int failures = ++consecutiveFailures;
+			nextRunTimestamp = System.currentTimeMillis() + Math.min(interval << Math.min(failures, 10), maxBackoff);
+		}
+		running.set(false);
+	}
+}
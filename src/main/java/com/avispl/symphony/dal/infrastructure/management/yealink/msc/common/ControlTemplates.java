@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.Util;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkConstant;
+import com.avispl.symphony.dal.util.ControllablePropertyFactory;
+
+/**
+ * ControlTemplates holds the immutable definitions of the controllable properties of an aggregated device, built once.
+ * {@link AdvancedControllableProperty} is mutable, so each device receives its own properties, created from the
+ * definitions with the current timestamp, in an unmodifiable list.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public final class ControlTemplates {
+	/**
+	 * Buttons of the {@link YealinkConstant#CONTROL_MANAGEMENT} group, in display order
+	 */
+	private static final ButtonTemplate[] CONTROLS = {
+			new ButtonTemplate(YealinkConstant.REBOOT, "Reboot", "Rebooting", TimeUnit.MINUTES.toMillis(3)),
+			new ButtonTemplate(YealinkConstant.PACKET_CAPTURE, "Active", "Activating", 0),
+			new ButtonTemplate(YealinkConstant.EXPORT_LOG, "Export", "Exporting", 0),
+			new ButtonTemplate(YealinkConstant.SCREEN_CAPTURE, "Active", "Activating", 0)
+	};
+
+	private ControlTemplates() {
+	}
+
+	/**
+	 * Creates the controllable properties of a device
+	 *
+	 * @return an unmodifiable list of new properties
+	 */
+	public static List<AdvancedControllableProperty> createControls() {
+		AdvancedControllableProperty[] controls = new AdvancedControllableProperty[CONTROLS.length];
+		for (int i = 0; i < CONTROLS.length; i++) {
+			controls[i] = CONTROLS[i].create();
+		}
+		return Collections.unmodifiableList(Arrays.asList(controls));
+	}
+
+	/**
+	 * Creates the controllable properties of a device while configManagement is disabled
+	 *
+	 * @return an unmodifiable list holding a new empty text property
+	 */
+	public static List<AdvancedControllableProperty> createPlaceholder() {
+		return Collections.singletonList(ControllablePropertyFactory.createText(YealinkConstant.EMPTY, YealinkConstant.EMPTY));
+	}
+
+	/**
+	 * Puts the statistics of the controllable properties, each with an empty value
+	 *
+	 * @param stats destination map
+	 */
+	public static void putStatistics(Map<String, String> stats) {
+		for (ButtonTemplate control : CONTROLS) {
+			stats.put(control.name, YealinkConstant.EMPTY);
+		}
+	}
+
+	/**
+	 * ButtonTemplate is the immutable definition of a button of the {@link YealinkConstant#CONTROL_MANAGEMENT} group
+	 */
+	private static final class ButtonTemplate {
+		private final String name;
+		private final String label;
+		private final String labelPressed;
+		private final long gracePeriod;
+
+		/**
+		 * Create an instance of ButtonTemplate
+		 *
+		 * @param control name of the control inside the group
+		 * @param label label of the button
+		 * @param labelPressed label of the button while pressed
+		 * @param gracePeriod grace period of the button in milliseconds
+		 */
+		private ButtonTemplate(String control, String label, String labelPressed, long gracePeriod) {
+			this.name = YealinkConstant.CONTROL_MANAGEMENT + YealinkConstant.HASH + control;
+			this.label = label;
+			this.labelPressed = labelPressed;
+			this.gracePeriod = gracePeriod;
+		}
+
+		/**
+		 * Creates the button, timestamped now
+		 *
+		 * @return a new controllable property
+		 */
+		private AdvancedControllableProperty create() {
+			return Util.createButton(name, label, labelPressed, gracePeriod);
+		}
+	}
+}
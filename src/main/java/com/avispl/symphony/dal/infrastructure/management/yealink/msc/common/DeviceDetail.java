@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * DeviceDetail class represents the fields of a {@code dm/devices/{id}} response used by the adapter.
+ * Other fields of the response are ignored while reading.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DeviceDetail {
+	private String mac;
+	private String sn;
+	private String name;
+	private String modelName;
+	private String siteName;
+	private String programVersion;
+	private String lanIp;
+	private String lastReportTime;
+	private String deviceStatus;
+	private String deviceType;
+
+	/**
+	 * Retrieves the value of an {@link AggregatedInformation} field
+	 *
+	 * @param info the field
+	 * @return value of the field, null if the response did not hold it
+	 */
+	public String getValue(AggregatedInformation info) {
+		switch (info) {
+			case MAC:
+				return mac;
+			case SN:
+				return sn;
+			case NAME:
+				return name;
+			case MODEL_NAME:
+				return modelName;
+			case SITE_NAME:
+				return siteName;
+			case PROGRAM_VERSION:
+				return programVersion;
+			case LAN_IP:
+				return lanIp;
+			case LAST_REPORT_TIME:
+				return lastReportTime;
+			case DEVICE_STATUS:
+				return deviceStatus;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Retrieves {@link #deviceType}
+	 *
+	 * @return value of {@link #deviceType}
+	 */
+	public String getDeviceType() {
+		return deviceType;
+	}
+
+	/**
+	 * Sets {@link #mac} value
+	 *
+	 * @param mac new value of {@link #mac}
+	 */
+	public void setMac(String mac) {
+		this.mac = mac;
+	}
+
+	/**
+	 * Sets {@link #sn} value
+	 *
+	 * @param sn new value of {@link #sn}
+	 */
+	public void setSn(String sn) {
+		this.sn = sn;
+	}
+
+	/**
+	 * Sets {@link #name} value
+	 *
+	 * @param name new value of {@link #name}
+	 */
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Sets {@link #modelName} value
+	 *
+	 * @param modelName new value of {@link #modelName}
+	 */
+	public void setModelName(String modelName) {
+		this.modelName = modelName;
+	}
+
+	/**
+	 * Sets {@link #siteName} value
+	 *
+	 * @param siteName new value of {@link #siteName}
+	 */
+	public void setSiteName(String siteName) {
+		this.siteName = siteName;
+	}
+
+	/**
+	 * Sets {@link #programVersion} value
+	 *
+	 * @param programVersion new value of {@link #programVersion}
+	 */
+	public void setProgramVersion(String programVersion) {
+		this.programVersion = programVersion;
+	}
+
+	/**
+	 * Sets {@link #lanIp} value
+	 *
+	 * @param lanIp new value of {@link #lanIp}
+	 */
+	public void setLanIp(String lanIp) {
+		this.lanIp = lanIp;
+	}
+
+	/**
+	 * Sets {@link #lastReportTime} value
+	 *
+	 * @param lastReportTime new value of {@link #lastReportTime}
+	 */
+	public void setLastReportTime(String lastReportTime) {
+		this.lastReportTime = lastReportTime;
+	}
+
+	/**
+	 * Sets {@link #deviceStatus} value
+	 *
+	 * @param deviceStatus new value of {@link #deviceStatus}
+	 */
+	public void setDeviceStatus(String deviceStatus) {
+		this.deviceStatus = deviceStatus;
+	}
+
+	/**
+	 * Sets {@link #deviceType} value
+	 *
+	 * @param deviceType new value of {@link #deviceType}
+	 */
+	public void setDeviceType(String deviceType) {
+		this.deviceType = deviceType;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkConstant;
+
+/**
+ * DeviceListPage holds a page of {@code dm/listDevices} read with a streaming parser.
+ * Only the {@code total} of the page and, for each entry, the id, the device type and the fields of
+ * {@link AggregatedInformation} are kept. Every other value is skipped as its tokens arrive, without building a tree.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class DeviceListPage {
+	/**
+	 * Fields kept from each entry
+	 */
+	private static final Set<String> ENTRY_FIELDS;
+
+	static {
+		Set<String> fields = new HashSet<>();
+		fields.add(YealinkConstant.ID);
+		fields.add(YealinkConstant.DEVICE_TYPE);
+		for (AggregatedInformation info : AggregatedInformation.values()) {
+			if (!YealinkConstant.EMPTY.equals(info.getField())) {
+				fields.add(info.getField());
+			}
+		}
+		ENTRY_FIELDS = Collections.unmodifiableSet(fields);
+	}
+
+	private final Integer total;
+	private final List<Map<String, String>> entries;
+
+	/**
+	 * Create an instance of DeviceListPage
+	 *
+	 * @param total total number of devices, null if the page has none
+	 * @param entries kept fields of each entry, keyed by API field name
+	 */
+	public DeviceListPage(Integer total, List<Map<String, String>> entries) {
+		this.total = total;
+		this.entries = entries;
+	}
+
+	/**
+	 * Retrieves {@link #total}
+	 *
+	 * @return value of {@link #total}
+	 */
+	public Integer getTotal() {
+		return total;
+	}
+
+	/**
+	 * Retrieves {@link #entries}
+	 *
+	 * @return value of {@link #entries}
+	 */
+	public List<Map<String, String>> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Reads a page of {@code dm/listDevices}
+	 *
+	 * @param jsonFactory factory of the streaming parser
+	 * @param content raw response
+	 * @return the page
+	 * @throws IOException if the content is not a JSON object
+	 */
+	public static DeviceListPage parse(JsonFactory jsonFactory, byte[] content) throws IOException {
+		Integer total = null;
+		List<Map<String, String>> entries = new ArrayList<>();
+		try (JsonParser parser = jsonFactory.createParser(content)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException("The device list response is not a JSON object");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+				if (YealinkConstant.TOTAL.equals(field) && token.isNumeric()) {
+					total = parser.getIntValue();
+				} else if (YealinkConstant.DATA.equals(field) && token == JsonToken.START_ARRAY) {
+					readEntries(parser, entries);
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		return new DeviceListPage(total, entries);
+	}
+
+	/**
+	 * Reads the entries of the {@code data} array, the parser is positioned on its start
+	 *
+	 * @param parser streaming parser
+	 * @param entries receives the kept fields of each entry
+	 * @throws IOException if the content cannot be parsed
+	 */
+	private static void readEntries(JsonParser parser, List<Map<String, String>> entries) throws IOException {
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+			if (token != JsonToken.START_OBJECT) {
+				parser.skipChildren();
+				continue;
+			}
+			Map<String, String> entry = new HashMap<>();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.getCurrentName();
+				JsonToken value = parser.nextToken();
+				if (value.isScalarValue() && value != JsonToken.VALUE_NULL && ENTRY_FIELDS.contains(field)) {
+					entry.put(field, parser.getText());
+				} else {
+					parser.skipChildren();
+				}
+			}
+			entries.add(entry);
+		}
+	}
+}
@@ -0,0 +1,292 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.Util;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkConstant;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * DiagnosisTracker keeps track of the diagnosis tasks (packet capture, log export, screen capture) started on devices.
+ * The status of every running task is polled in background on a single scheduler shared by all devices, with an
+ * exponential backoff between polls, and the latest state is exposed as device properties.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class DiagnosisTracker {
+	/**
+	 * Requests the status of a diagnosis task
+	 */
+	public interface StatusRequester {
+		/**
+		 * @param taskId id of the diagnosis task
+		 * @return status response
+		 * @throws Exception if the request fails
+		 */
+		JsonNode requestStatus(String taskId) throws Exception;
+	}
+
+	private static final long INITIAL_POLL_DELAY_MS = TimeUnit.SECONDS.toMillis(5);
+	private static final long MAX_POLL_DELAY_MS = TimeUnit.SECONDS.toMillis(60);
+	private static final long TASK_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+	private static final long UNTRACKED_TASK_TTL_MS = TimeUnit.MINUTES.toMillis(5);
+	private static final int MAX_POLL_FAILURES = 5;
+	private static final Set<String> TERMINAL_STATUSES = new HashSet<>(Arrays.asList(
+			"success", "succeed", "succeeded", "finished", "completed", "complete", "done", "failed", "failure", "fail", "error", "timeout", "cancelled", "canceled"));
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final StatusRequester statusRequester;
+	private final Runnable changeListener;
+	private final ValueFormatter valueFormatter;
+	private final long initialPollDelayMs;
+	private final long maxPollDelayMs;
+	private final long taskTimeoutMs;
+	private final long untrackedTaskTtlMs;
+	private final Map<String, Map<String, DiagnosisTask>> tasks = new ConcurrentHashMap<>();
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * Create an instance of DiagnosisTracker
+	 *
+	 * @param statusRequester requests the status of a task from the API
+	 * @param changeListener notified every time the state of a task changes
+	 * @param valueFormatter formats the last update time of tasks
+	 */
+	public DiagnosisTracker(StatusRequester statusRequester, Runnable changeListener, ValueFormatter valueFormatter) {
+		this(statusRequester, changeListener, valueFormatter, INITIAL_POLL_DELAY_MS, MAX_POLL_DELAY_MS, TASK_TIMEOUT_MS, UNTRACKED_TASK_TTL_MS);
+	}
+
+	/**
+	 * Create an instance of DiagnosisTracker with custom polling delays
+	 *
+	 * @param statusRequester requests the status of a task from the API
+	 * @param changeListener notified every time the state of a task changes
+	 * @param valueFormatter formats the last update time of tasks
+	 * @param initialPollDelayMs delay before the first poll of a task
+	 * @param maxPollDelayMs maximum delay between two polls of a task
+	 * @param taskTimeoutMs time after which a task that did not reach a final state is given up
+	 * @param untrackedTaskTtlMs time a task started without task id is considered in progress
+	 */
+	DiagnosisTracker(StatusRequester statusRequester, Runnable changeListener, ValueFormatter valueFormatter, long initialPollDelayMs,
+			long maxPollDelayMs, long taskTimeoutMs, long untrackedTaskTtlMs) {
+		this.statusRequester = statusRequester;
+		this.changeListener = changeListener;
+		this.valueFormatter = valueFormatter;
+		this.initialPollDelayMs = initialPollDelayMs;
+		this.maxPollDelayMs = maxPollDelayMs;
+		this.taskTimeoutMs = taskTimeoutMs;
+		this.untrackedTaskTtlMs = untrackedTaskTtlMs;
+	}
+
+	/**
+	 * Starts the background scheduler
+	 */
+	public synchronized void start() {
+		if (scheduler == null) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "yealink-diagnosis-tracker");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * Stops the background scheduler and forgets every task
+	 */
+	public synchronized void stop() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+		tasks.clear();
+	}
+
+	/**
+	 * Checks whether a diagnosis of the given type is still running on a device
+	 *
+	 * @param deviceId device id
+	 * @param type diagnosis type, the name of the control
+	 * @return true if a task was started and did not reach a final state yet
+	 */
+	public boolean isInProgress(String deviceId, String type) {
+		DiagnosisTask task = tasks.getOrDefault(deviceId, Collections.emptyMap()).get(type);
+		return task != null && !task.terminal;
+	}
+
+	/**
+	 * Records a started task and schedules the polling of its status.
+	 * A task started without task id cannot be polled: it is shown as {@link YealinkConstant#DIAGNOSIS_UNTRACKED} and stays in
+	 * progress, so the diagnosis cannot be started again, until {@link #untrackedTaskTtlMs} expires. Its status then becomes
+	 * {@link YealinkConstant#DIAGNOSIS_UNKNOWN}.
+	 *
+	 * @param deviceId device id
+	 * @param type diagnosis type, the name of the control
+	 * @param taskId id of the diagnosis task returned by the API, null if the API did not return one
+	 */
+	public void track(String deviceId, String type, String taskId) {
+		long now = System.currentTimeMillis();
+		boolean pollable = taskId != null && !taskId.isEmpty();
+		String status = pollable ? YealinkConstant.DIAGNOSIS_STARTED : YealinkConstant.DIAGNOSIS_UNTRACKED;
+		DiagnosisTask task = new DiagnosisTask(deviceId, type, taskId, status, 0, now, now, false, 0);
+		tasks.computeIfAbsent(deviceId, id -> new ConcurrentHashMap<>()).put(type, task);
+		changeListener.run();
+		if (pollable) {
+			schedulePoll(task, initialPollDelayMs);
+		} else {
+			scheduleExpiry(task);
+		}
+	}
+
+	/**
+	 * Retrieves the diagnosis properties of a device
+	 *
+	 * @param deviceId device id
+	 * @return properties of every diagnosis started on the device, keyed by statistics name
+	 */
+	public Map<String, String> getProperties(String deviceId) {
+		Map<String, DiagnosisTask> deviceTasks = tasks.get(deviceId);
+		if (deviceTasks == null || deviceTasks.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> properties = new HashMap<>();
+		deviceTasks.forEach((type, task) -> {
+			String prefix = YealinkConstant.DIAGNOSIS + type + YealinkConstant.HASH;
+			properties.put(prefix + YealinkConstant.DIAGNOSIS_STATUS, task.status);
+			properties.put(prefix + YealinkConstant.DIAGNOSIS_PROGRESS, String.valueOf(task.progress));
+			properties.put(prefix + YealinkConstant.DIAGNOSIS_LAST_UPDATE, valueFormatter.formatEpoch(task.updatedAt));
+		});
+		return properties;
+	}
+
+	/**
+	 * Forgets the tasks of devices that are no longer monitored
+	 *
+	 * @param deviceIds ids of the monitored devices
+	 */
+	public void retainDevices(Set<String> deviceIds) {
+		tasks.keySet().retainAll(deviceIds);
+	}
+
+	/**
+	 * Schedules the next status poll of a task
+	 *
+	 * @param task task to poll
+	 * @param delayMs delay before the poll
+	 */
+	private synchronized void schedulePoll(DiagnosisTask task, long delayMs) {
+		if (scheduler == null) {
+			return;
+		}
+		scheduler.schedule(() -> poll(task, delayMs), delayMs, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Schedules the end of a task that cannot be polled, once {@link #untrackedTaskTtlMs} expired
+	 *
+	 * @param task task started without task id
+	 */
+	private synchronized void scheduleExpiry(DiagnosisTask task) {
+		if (scheduler == null) {
+			return;
+		}
+		scheduler.schedule(() -> {
+			Map<String, DiagnosisTask> deviceTasks = tasks.get(task.deviceId);
+			DiagnosisTask expired = new DiagnosisTask(task.deviceId, task.type, null, YealinkConstant.DIAGNOSIS_UNKNOWN, task.progress, task.startedAt,
+					System.currentTimeMillis(), true, 0);
+			if (deviceTasks != null && deviceTasks.replace(task.type, task, expired)) {
+				changeListener.run();
+			}
+		}, untrackedTaskTtlMs, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Polls the status of a task, then publishes its new state and schedules the next poll with a doubled delay
+	 *
+	 * @param task task to poll
+	 * @param delayMs delay that was used for this poll
+	 */
+	private void poll(DiagnosisTask task, long delayMs) {
+		Map<String, DiagnosisTask> deviceTasks = tasks.get(task.deviceId);
+		if (deviceTasks == null || deviceTasks.get(task.type) != task) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		DiagnosisTask next;
+		try {
+			JsonNode response = statusRequester.requestStatus(task.taskId);
+			JsonNode data = response != null && response.has(YealinkConstant.DATA) ? response.get(YealinkConstant.DATA) : response;
+			String status = data == null ? null : data.path(YealinkConstant.DIAGNOSIS_STATUS_FIELD).asText(null);
+			int progress = data == null ? task.progress : data.path(YealinkConstant.DIAGNOSIS_PROGRESS_FIELD).asInt(task.progress);
+			boolean terminal = progress >= 100 || (status != null && TERMINAL_STATUSES.contains(status.toLowerCase(Locale.ROOT)));
+			next = new DiagnosisTask(task.deviceId, task.type, task.taskId, StringUtils.isNotNullOrEmpty(status) ? Util.uppercaseFirstCharacter(status) : task.status,
+					Math.min(progress, 100), task.startedAt, now, terminal, 0);
+		} catch (Exception e) {
+			int failures = task.failures + 1;
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("Unable to retrieve status of %s on device %s (attempt %d)", task.type, task.deviceId, failures), e);
+			}
+			boolean terminal = failures >= MAX_POLL_FAILURES;
+			next = new DiagnosisTask(task.deviceId, task.type, task.taskId, terminal ? YealinkConstant.DIAGNOSIS_UNKNOWN : task.status,
+					task.progress, task.startedAt, terminal ? now : task.updatedAt, terminal, failures);
+		}
+		if (!next.terminal && now - task.startedAt >= taskTimeoutMs) {
+			next = new DiagnosisTask(task.deviceId, task.type, task.taskId, YealinkConstant.DIAGNOSIS_UNKNOWN, next.progress, task.startedAt, now, true, next.failures);
+		}
+		if (!deviceTasks.replace(task.type, task, next)) {
+			return;
+		}
+		changeListener.run();
+		if (!next.terminal) {
+			schedulePoll(next, Math.min(delayMs * 2, maxPollDelayMs));
+		}
+	}
+
+	/**
+	 * Immutable state of a diagnosis task
+	 */
+	private static final class DiagnosisTask {
+		private final String deviceId;
+		private final String type;
+		private final String taskId;
+		private final String status;
+		private final int progress;
+		private final long startedAt;
+		private final long updatedAt;
+		private final boolean terminal;
+		private final int failures;
+
+		private DiagnosisTask(String deviceId, String type, String taskId, String status, int progress, long startedAt, long updatedAt,
+				boolean terminal, int failures) {
+			this.deviceId = deviceId;
+			this.type = type;
+			this.taskId = taskId;
+			this.status = status;
+			this.progress = progress;
+			this.startedAt = startedAt;
+			this.updatedAt = updatedAt;
+			this.terminal = terminal;
+			this.failures = failures;
+		}
+	}
+}
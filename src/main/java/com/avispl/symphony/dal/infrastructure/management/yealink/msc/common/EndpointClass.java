@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import org.springframework.http.HttpMethod;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkCommand;
+
+/**
+ * EndpointClass groups the Yealink API endpoints that share a request budget.
+ * The default rate of a class does not depend on the fleet size: a larger fleet makes the cycle longer instead of
+ * raising the request rate, and the rate can be overridden for the tenant.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public enum EndpointClass {
+	TOKEN("Token", 1),
+	LIST("List", 10),
+	DETAIL("Detail", 50),
+	LIST_PARTS("ListParts", 50),
+	AUXILIARY("Auxiliary", 20),
+	CONTROL("Control", 10),
+	;
+	private final String name;
+	private final double defaultRate;
+
+	/**
+	 * Constructor for EndpointClass.
+	 *
+	 * @param name The name of the endpoint class, used in the adapter properties.
+	 * @param defaultRate The default number of requests allowed per second.
+	 */
+	EndpointClass(String name, double defaultRate) {
+		this.name = name;
+		this.defaultRate = defaultRate;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #defaultRate}
+	 *
+	 * @return value of {@link #defaultRate}
+	 */
+	public double getDefaultRate() {
+		return defaultRate;
+	}
+
+	/**
+	 * Resolves the class of a request.
+	 * Every PUT and the reboot request are controls. Network interfaces, device count and diagnosis status are
+	 * auxiliary reads, so they neither take from the detail budget nor blur the detail latency, other reads of a single
+	 * device are details.
+	 *
+	 * @param method HTTP method of the request
+	 * @param uri relative uri of the request
+	 * @return the endpoint class
+	 */
+	public static EndpointClass fromRequest(HttpMethod method, String uri) {
+		String path = uri.contains("?") ? uri.substring(0, uri.indexOf('?')) : uri;
+		if (path.equals(YealinkCommand.GET_AUTH) || path.endsWith("/" + YealinkCommand.GET_AUTH)) {
+			return TOKEN;
+		}
+		if (path.endsWith(YealinkCommand.GET_LIST_DEVICES)) {
+			return LIST;
+		}
+		if (path.endsWith("/listParts")) {
+			return LIST_PARTS;
+		}
+		if (HttpMethod.PUT.equals(method) || path.endsWith(YealinkCommand.REBOOT_URI)) {
+			return CONTROL;
+		}
+		if (path.endsWith("/networkInterfaces") || path.endsWith(YealinkCommand.DEVICE_COUNT_PATH) || path.contains(YealinkCommand.DIAGNOSIS_PATH)) {
+			return AUXILIARY;
+		}
+		return DETAIL;
+	}
+
+	/**
+	 * Finds the endpoint class with the given name, ignoring case
+	 *
+	 * @param name name of the endpoint class
+	 * @return the endpoint class, or null if there is none with this name
+	 */
+	public static EndpointClass fromName(String name) {
+		for (EndpointClass endpointClass : values()) {
+			if (endpointClass.name.equalsIgnoreCase(name)) {
+				return endpointClass;
+			}
+		}
+		return null;
+	}
+}
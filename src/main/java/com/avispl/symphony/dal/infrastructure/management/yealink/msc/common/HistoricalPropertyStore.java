@@ -0,0 +1,328 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkConstant;
+
+/**
+ * HistoricalPropertyStore moves the configured numeric properties of each aggregated device to its dynamic statistics,
+ * keeps the last {@link #historySize} samples of each of them and publishes their minimum, average and maximum over these
+ * samples next to the current value.
+ * The history of every device lives in the same primitive arrays, indexed by a slot assigned to the device: one timestamp
+ * ring per slot, shared by its properties, and one value ring per slot and property. Slots of devices that are no longer
+ * aggregated are reused, and the arrays only grow when the number of devices does, so the retained memory stays flat from
+ * one cycle to the next. When growing the arrays would exceed the memory budget, the history is shortened to fit it, keeping
+ * the latest samples. A property missing from a sample is stored as {@link Double#NaN}.
+ * A property is matched by its full statistics name, such as {@code Diagnosis_ExportLog#Progress(%)}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class HistoricalPropertyStore {
+	private static final int INITIAL_SLOTS = 64;
+
+	private final Map<String, Integer> propertyIndexes = new HashMap<>();
+	private final String[][] aggregateNames;
+	private final int propertyCount;
+	private final int maxHistorySize;
+	private final long memoryBudget;
+	private int historySize;
+	private final Map<String, Integer> slots = new HashMap<>();
+	private int[] freeSlots = new int[INITIAL_SLOTS];
+	private int freeCount;
+	private int slotCount;
+	private long[] timestamps;
+	private double[] values;
+	private int[] heads;
+	private int[] counts;
+	private final double[] sample;
+
+	/**
+	 * Create an instance of HistoricalPropertyStore
+	 *
+	 * @param properties full statistics names of the historical properties
+	 * @param historySize number of samples kept for each property of each device
+	 * @param memoryBudget number of bytes the history arrays may retain, see {@link #getHistorySize()}
+	 */
+	public HistoricalPropertyStore(Collection<String> properties, int historySize, long memoryBudget) {
+		for (String property : properties) {
+			propertyIndexes.putIfAbsent(property, propertyIndexes.size());
+		}
+		this.propertyCount = propertyIndexes.size();
+		this.aggregateNames = new String[propertyCount][];
+		propertyIndexes.forEach((property, index) -> aggregateNames[index] = new String[] {
+				aggregateName(property, YealinkConstant.HISTORY_MIN),
+				aggregateName(property, YealinkConstant.HISTORY_AVG),
+				aggregateName(property, YealinkConstant.HISTORY_MAX) });
+		this.maxHistorySize = Math.max(1, historySize);
+		this.memoryBudget = memoryBudget;
+		this.historySize = this.maxHistorySize;
+		this.sample = new double[propertyCount];
+		allocate(INITIAL_SLOTS);
+	}
+
+	/**
+	 * Retrieves {@link #historySize}
+	 *
+	 * @return number of samples kept for each property of each device, lower than the configured size when the fleet is too
+	 * large for the memory budget
+	 */
+	public synchronized int getHistorySize() {
+		return historySize;
+	}
+
+	/**
+	 * Moves the numeric historical properties of a device from {@code stats} to a new dynamic statistics map and records
+	 * them as a new sample of the device.
+	 * Each property present in the sample is published with its minimum, average and maximum over the kept samples,
+	 * named as in {@link #aggregateName(String, String)}.
+	 *
+	 * @param deviceId target device id
+	 * @param timestamp time of the sample in milliseconds
+	 * @param stats properties of the device, historical properties are removed from it
+	 * @return dynamic statistics of the device, empty if none of its properties is historical
+	 */
+	public synchronized Map<String, String> record(String deviceId, long timestamp, Map<String, String> stats) {
+		Map<String, String> dynamicStatistics = null;
+		Arrays.fill(sample, Double.NaN);
+		for (Iterator<Map.Entry<String, String>> iterator = stats.entrySet().iterator(); iterator.hasNext(); ) {
+			Map.Entry<String, String> property = iterator.next();
+			Integer index = propertyIndexes.get(property.getKey());
+			if (index == null) {
+				continue;
+			}
+			double value = parse(property.getValue());
+			if (Double.isNaN(value)) {
+				continue;
+			}
+			sample[index] = value;
+			if (dynamicStatistics == null) {
+				dynamicStatistics = new HashMap<>();
+			}
+			dynamicStatistics.put(property.getKey(), property.getValue());
+			iterator.remove();
+		}
+		if (dynamicStatistics == null && !slots.containsKey(deviceId)) {
+			return Collections.emptyMap();
+		}
+		int slot = slotOf(deviceId);
+		int head = heads[slot];
+		timestamps[slot * historySize + head] = timestamp;
+		for (int property = 0; property < propertyCount; property++) {
+			values[(slot * propertyCount + property) * historySize + head] = sample[property];
+		}
+		heads[slot] = (head + 1) % historySize;
+		counts[slot] = Math.min(counts[slot] + 1, historySize);
+		if (dynamicStatistics == null) {
+			return Collections.emptyMap();
+		}
+		for (int property = 0; property < propertyCount; property++) {
+			if (!Double.isNaN(sample[property])) {
+				putAggregates(slot, property, dynamicStatistics);
+			}
+		}
+		return dynamicStatistics;
+	}
+
+	/**
+	 * Copies the history of a property of a device, oldest sample first
+	 *
+	 * @param deviceId target device id
+	 * @param property full statistics name of the historical property
+	 * @param sampleTimestamps receives the time of each sample, at least {@link #historySize} long
+	 * @param sampleValues receives the value of each sample, at least {@link #historySize} long
+	 * @return number of samples copied, 0 if the device or the property has no history
+	 */
+	synchronized int copyHistory(String deviceId, String property, long[] sampleTimestamps, double[] sampleValues) {
+		Integer slot = slots.get(deviceId);
+		Integer index = propertyIndexes.get(property);
+		if (slot == null || index == null) {
+			return 0;
+		}
+		int count = counts[slot];
+		int oldest = (heads[slot] - count + historySize) % historySize;
+		for (int i = 0; i < count; i++) {
+			int position = (oldest + i) % historySize;
+			sampleTimestamps[i] = timestamps[slot * historySize + position];
+			sampleValues[i] = values[(slot * propertyCount + index) * historySize + position];
+		}
+		return count;
+	}
+
+	/**
+	 * Releases the history of the devices that are not part of {@code deviceIds}, so their slots can be reused
+	 *
+	 * @param deviceIds ids of the aggregated devices
+	 */
+	public synchronized void retainDevices(Set<String> deviceIds) {
+		for (Iterator<Map.Entry<String, Integer>> iterator = slots.entrySet().iterator(); iterator.hasNext(); ) {
+			Map.Entry<String, Integer> entry = iterator.next();
+			if (!deviceIds.contains(entry.getKey())) {
+				int slot = entry.getValue();
+				heads[slot] = 0;
+				counts[slot] = 0;
+				if (freeCount == freeSlots.length) {
+					freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+				}
+				freeSlots[freeCount++] = slot;
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Publishes the minimum, average and maximum of the kept samples of a property, skipping the missing ones
+	 *
+	 * @param slot slot of the device
+	 * @param property index of the property
+	 * @param dynamicStatistics the map where dynamic statistics will be stored
+	 */
+	private void putAggregates(int slot, int property, Map<String, String> dynamicStatistics) {
+		int offset = (slot * propertyCount + property) * historySize;
+		int count = counts[slot];
+		int oldest = (heads[slot] - count + historySize) % historySize;
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		double sum = 0;
+		int present = 0;
+		for (int i = 0; i < count; i++) {
+			double value = values[offset + (oldest + i) % historySize];
+			if (Double.isNaN(value)) {
+				continue;
+			}
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+			sum += value;
+			present++;
+		}
+		String[] names = aggregateNames[property];
+		dynamicStatistics.put(names[0], format(min));
+		dynamicStatistics.put(names[1], format(sum / present));
+		dynamicStatistics.put(names[2], format(max));
+	}
+
+	/**
+	 * Retrieves the slot of a device, assigning a free slot to a new device
+	 *
+	 * @param deviceId target device id
+	 * @return slot of the device
+	 */
+	private int slotOf(String deviceId) {
+		Integer slot = slots.get(deviceId);
+		if (slot != null) {
+			return slot;
+		}
+		int newSlot;
+		if (freeCount > 0) {
+			newSlot = freeSlots[--freeCount];
+		} else {
+			if (slotCount == heads.length) {
+				allocate(heads.length * 2);
+			}
+			newSlot = slotCount++;
+		}
+		slots.put(deviceId, newSlot);
+		return newSlot;
+	}
+
+	/**
+	 * Grows the history arrays to {@code capacity} slots, keeping the recorded samples.
+	 * The history is shortened to the number of samples per slot that fits {@link #memoryBudget}, at least one, and each
+	 * ring is rewritten oldest sample first, dropping the oldest samples that no longer fit.
+	 *
+	 * @param capacity new number of slots
+	 */
+	private void allocate(int capacity) {
+		long bytesPerSample = (long) capacity * (propertyCount + 1) * Double.BYTES;
+		int size = (int) Math.max(1, Math.min(maxHistorySize, memoryBudget / bytesPerSample));
+		long[] newTimestamps = new long[capacity * size];
+		double[] newValues = new double[capacity * propertyCount * size];
+		int[] newHeads = new int[capacity];
+		int[] newCounts = new int[capacity];
+		for (int slot = 0; slot < slotCount; slot++) {
+			int count = Math.min(counts[slot], size);
+			int oldest = (heads[slot] - count + historySize) % historySize;
+			for (int i = 0; i < count; i++) {
+				int position = (oldest + i) % historySize;
+				newTimestamps[slot * size + i] = timestamps[slot * historySize + position];
+				for (int property = 0; property < propertyCount; property++) {
+					newValues[(slot * propertyCount + property) * size + i] = values[(slot * propertyCount + property) * historySize + position];
+				}
+			}
+			newHeads[slot] = count % size;
+			newCounts[slot] = count;
+		}
+		timestamps = newTimestamps;
+		values = newValues;
+		heads = newHeads;
+		counts = newCounts;
+		historySize = size;
+	}
+
+	/**
+	 * Builds the name of an aggregate of a property, the suffix goes before the unit of the property if it has one:
+	 * {@code Diagnosis_ExportLog#Progress(%)} becomes {@code Diagnosis_ExportLog#ProgressMin(%)}
+	 *
+	 * @param property full statistics name of the property
+	 * @param suffix suffix of the aggregate
+	 * @return name of the aggregate
+	 */
+	private static String aggregateName(String property, String suffix) {
+		int unit = property.lastIndexOf('(');
+		if (unit > property.lastIndexOf(YealinkConstant.HASH) && property.endsWith(")")) {
+			return property.substring(0, unit) + suffix + property.substring(unit);
+		}
+		return property + suffix;
+	}
+
+	/**
+	 * Formats an aggregate, rounded to two decimals
+	 *
+	 * @param value value of the aggregate
+	 * @return the formatted value
+	 */
+	private static String format(double value) {
+		return String.valueOf(Math.round(value * 100) / 100.0);
+	}
+
+	/**
+	 * Parses the value of a property. Values that cannot be a decimal number, such as {@link YealinkConstant#NONE}, are
+	 * rejected from their characters, without going through a {@link NumberFormatException}.
+	 *
+	 * @param value value of the property
+	 * @return the numeric value, or {@link Double#NaN} if the value is not a finite number
+	 */
+	private static double parse(String value) {
+		if (value == null || value.isEmpty()) {
+			return Double.NaN;
+		}
+		boolean digit = false;
+		for (int i = 0; i < value.length(); i++) {
+			char character = value.charAt(i);
+			if (character >= '0' && character <= '9') {
+				digit = true;
+			} else if (character != '.' && character != '-' && character != '+' && character != 'e' && character != 'E') {
+				return Double.NaN;
+			}
+		}
+		if (!digit) {
+			return Double.NaN;
+		}
+		try {
+			double number = Double.parseDouble(value);
+			return Double.isInfinite(number) ? Double.NaN : number;
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * LatencyHistogram records the latency of the requests of one {@link EndpointClass} in a fixed number of log-linear
+ * buckets: latencies are kept in microseconds, each power of two is split into {@link #SUB_BUCKETS} buckets, so a
+ * percentile is off by at most 12.5%, and latencies above {@link #MAX_MICROS} fall in the last bucket.
+ * Requests are recorded in a ring of {@link #SLOT_COUNT} time slots of {@link #SLOT_NANOS} each, and a snapshot covers the
+ * slots of the last {@link #WINDOW_NANOS}, whatever the number of snapshots taken. Recording is lock-free: a slot is only
+ * replaced once its time is out of the window, so no request recorded within the window is lost.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 27;
+	private static final long MAX_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+	private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+	private static final int SLOT_COUNT = 6;
+	private static final long SLOT_NANOS = TimeUnit.SECONDS.toNanos(10);
+	private static final long WINDOW_NANOS = SLOT_COUNT * SLOT_NANOS;
+
+	/**
+	 * Requests recorded during one time slot
+	 */
+	private static final class Slot {
+		private final long epoch;
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+		private final AtomicLong errors = new AtomicLong();
+
+		private Slot(long epoch) {
+			this.epoch = epoch;
+		}
+	}
+
+	/**
+	 * Latency percentiles, error count and request rate of the window
+	 */
+	public static final class Snapshot {
+		private final long count;
+		private final long errors;
+		private final double requestRate;
+		private final double p50Millis;
+		private final double p95Millis;
+		private final double p99Millis;
+
+		private Snapshot(long count, long errors, double requestRate, double p50Millis, double p95Millis, double p99Millis) {
+			this.count = count;
+			this.errors = errors;
+			this.requestRate = requestRate;
+			this.p50Millis = p50Millis;
+			this.p95Millis = p95Millis;
+			this.p99Millis = p99Millis;
+		}
+
+		/**
+		 * Retrieves {@link #count}
+		 *
+		 * @return number of requests of the window
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * Retrieves {@link #errors}
+		 *
+		 * @return number of failed requests of the window
+		 */
+		public long getErrors() {
+			return errors;
+		}
+
+		/**
+		 * Retrieves {@link #requestRate}
+		 *
+		 * @return requests per second over the window
+		 */
+		public double getRequestRate() {
+			return requestRate;
+		}
+
+		/**
+		 * Retrieves {@link #p50Millis}
+		 *
+		 * @return median latency in milliseconds, 0 if the window has no request
+		 */
+		public double getP50Millis() {
+			return p50Millis;
+		}
+
+		/**
+		 * Retrieves {@link #p95Millis}
+		 *
+		 * @return 95th percentile latency in milliseconds, 0 if the window has no request
+		 */
+		public double getP95Millis() {
+			return p95Millis;
+		}
+
+		/**
+		 * Retrieves {@link #p99Millis}
+		 *
+		 * @return 99th percentile latency in milliseconds, 0 if the window has no request
+		 */
+		public double getP99Millis() {
+			return p99Millis;
+		}
+	}
+
+	private final AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(SLOT_COUNT);
+	private final LongSupplier nanoClock;
+	private final long createdNanos;
+
+	/**
+	 * Create an instance of LatencyHistogram
+	 */
+	public LatencyHistogram() {
+		this(System::nanoTime);
+	}
+
+	/**
+	 * Create an instance of LatencyHistogram reading time from the given clock
+	 *
+	 * @param nanoClock current time in nanoseconds, as {@link System#nanoTime()}
+	 */
+	LatencyHistogram(LongSupplier nanoClock) {
+		this.nanoClock = nanoClock;
+		this.createdNanos = nanoClock.getAsLong();
+	}
+
+	/**
+	 * Records a request
+	 *
+	 * @param latencyNanos time between sending the request and receiving its response or failure
+	 * @param failed whether the request failed
+	 */
+	public void record(long latencyNanos, boolean failed) {
+		Slot slot = currentSlot(Math.floorDiv(nanoClock.getAsLong(), SLOT_NANOS));
+		slot.buckets.incrementAndGet(bucketIndex(TimeUnit.NANOSECONDS.toMicros(Math.max(0, latencyNanos))));
+		if (failed) {
+			slot.errors.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Computes the snapshot of the requests recorded within the last {@link #WINDOW_NANOS}
+	 *
+	 * @return snapshot of the window
+	 */
+	public Snapshot snapshot() {
+		long now = nanoClock.getAsLong();
+		long epoch = Math.floorDiv(now, SLOT_NANOS);
+		long count = 0;
+		long errors = 0;
+		long[] buckets = new long[BUCKET_COUNT];
+		for (int index = 0; index < SLOT_COUNT; index++) {
+			Slot slot = slots.get(index);
+			if (slot == null || epoch - slot.epoch >= SLOT_COUNT || slot.epoch > epoch) {
+				continue;
+			}
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				long bucket = slot.buckets.get(i);
+				buckets[i] += bucket;
+				count += bucket;
+			}
+			errors += slot.errors.get();
+		}
+		long windowStart = Math.max((epoch - SLOT_COUNT + 1) * SLOT_NANOS, createdNanos);
+		double elapsedSeconds = Math.max(1, now - windowStart) / (double) TimeUnit.SECONDS.toNanos(1);
+		return new Snapshot(count, errors, count / elapsedSeconds,
+				percentileMillis(buckets, count, 0.50), percentileMillis(buckets, count, 0.95), percentileMillis(buckets, count, 0.99));
+	}
+
+	/**
+	 * Retrieves the slot of a time slot epoch, replacing the slot of the same ring position once it is out of the window
+	 *
+	 * @param epoch index of the time slot, time divided by {@link #SLOT_NANOS}
+	 * @return the slot recording the requests of the epoch
+	 */
+	private Slot currentSlot(long epoch) {
+		int index = (int) Math.floorMod(epoch, (long) SLOT_COUNT);
+		while (true) {
+			Slot slot = slots.get(index);
+			if (slot != null && slot.epoch >= epoch) {
+				return slot;
+			}
+			Slot next = new Slot(epoch);
+			if (slots.compareAndSet(index, slot, next)) {
+				return next;
+			}
+		}
+	}
+
+	/**
+	 * Computes a percentile from bucket counts
+	 *
+	 * @param buckets count of each bucket
+	 * @param count total count
+	 * @param quantile the percentile, in (0, 1]
+	 * @return upper bound of the bucket holding the percentile, in milliseconds
+	 */
+	private static double percentileMillis(long[] buckets, long count, double quantile) {
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(quantile * count));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += buckets[i];
+			if (seen >= rank) {
+				return bucketUpperBound(i) / 1000.0;
+			}
+		}
+		return MAX_MICROS / 1000.0;
+	}
+
+	/**
+	 * Retrieves the bucket of a latency
+	 *
+	 * @param micros latency in microseconds
+	 * @return index of the bucket
+	 */
+	private static int bucketIndex(long micros) {
+		long value = Math.min(micros, MAX_MICROS);
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Retrieves the highest latency of a bucket
+	 *
+	 * @param index index of the bucket
+	 * @return latency in microseconds
+	 */
+	private static long bucketUpperBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		int subBucket = index % SUB_BUCKETS;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		return ((SUB_BUCKETS + subBucket) * width) + width - 1;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.Map;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkConstant;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * PartitionMode defines how the listed devices are split into {@link CollectionPartition}s
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public enum PartitionMode {
+	NONE("None"),
+	SITE("Site"),
+	HASH("Hash"),
+	;
+	private final String name;
+
+	/**
+	 * Constructor for PartitionMode.
+	 *
+	 * @param name The name of the mode, used in the adapter properties.
+	 */
+	PartitionMode(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Resolves the partition of a device list entry. The key is also the group of the partition statistics, so it never
+	 * contains {@link YealinkConstant#HASH}.
+	 * {@link #SITE} uses the site name prefixed with {@link YealinkConstant#PARTITION_SITE}, so no site can share the key of
+	 * the devices without site, {@link YealinkConstant#PARTITION_UNASSIGNED}.
+	 * {@link #HASH} uses the hash of the device id modulo {@code partitionCount}.
+	 *
+	 * @param entry entry of the device in the list response, see {@link DeviceListPage#getEntries()}
+	 * @param partitionCount number of partitions of {@link #HASH}
+	 * @return key of the partition
+	 */
+	public String partitionKey(Map<String, String> entry, int partitionCount) {
+		switch (this) {
+			case SITE:
+				String siteName = entry.get(AggregatedInformation.SITE_NAME.getField());
+				return StringUtils.isNotNullOrEmpty(siteName) ? YealinkConstant.PARTITION_SITE + escape(siteName) : YealinkConstant.PARTITION_UNASSIGNED;
+			case HASH:
+				return String.valueOf(Math.floorMod(entry.get(YealinkConstant.ID).hashCode(), partitionCount));
+			default:
+				return YealinkConstant.PARTITION_UNASSIGNED;
+		}
+	}
+
+	/**
+	 * Escapes {@link YealinkConstant#HASH} as {@code %23} and {@code %} as {@code %25}, so distinct site names keep distinct keys
+	 *
+	 * @param siteName site name
+	 * @return the escaped site name
+	 */
+	private static String escape(String siteName) {
+		if (siteName.indexOf('#') < 0 && siteName.indexOf('%') < 0) {
+			return siteName;
+		}
+		return siteName.replace("%", "%25").replace(YealinkConstant.HASH, "%23");
+	}
+
+	/**
+	 * Retrieves the mode matching a name, ignoring case
+	 *
+	 * @param name name of the mode
+	 * @return the mode, or null if no mode matches
+	 */
+	public static PartitionMode fromName(String name) {
+		for (PartitionMode mode : values()) {
+			if (mode.name.equalsIgnoreCase(name)) {
+				return mode;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * RequestRateLimiter is a token bucket that paces the requests of one {@link EndpointClass}.
+ * The bucket holds up to one second worth of requests and refills at the current rate. The rate starts at the configured
+ * maximum and is halved every time the API throttles a request. Successful requests then let it grow back linearly with
+ * time, by the maximum rate every {@link #RECOVERY_PERIOD_NANOS}, so a burst of successes cannot undo a
+ * throttle right away. A throttled request also blocks the bucket until the delay requested by the API has passed, and the
+ * recovery only starts after it.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class RequestRateLimiter {
+	/**
+	 * Lowest fraction of the maximum rate the adaptive rate can go down to
+	 */
+	private static final double MIN_RATE_FACTOR = 0.05;
+
+	/**
+	 * Time over which the rate grows back by the maximum rate, one collection interval
+	 */
+	private static final long RECOVERY_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+	private final double maxRate;
+	private final LongSupplier nanoClock;
+	private double rate;
+	private double tokens;
+	private long lastRefillNanos;
+	private long blockedUntilNanos;
+	private long lastRecoveryNanos;
+
+	/**
+	 * Create an instance of RequestRateLimiter
+	 *
+	 * @param maxRate maximum number of requests per second, must be positive
+	 */
+	public RequestRateLimiter(double maxRate) {
+		this(maxRate, System::nanoTime);
+	}
+
+	/**
+	 * Create an instance of RequestRateLimiter reading time from the given clock
+	 *
+	 * @param maxRate maximum number of requests per second, must be positive
+	 * @param nanoClock current time in nanoseconds, as {@link System#nanoTime()}
+	 */
+	RequestRateLimiter(double maxRate, LongSupplier nanoClock) {
+		this.maxRate = maxRate;
+		this.nanoClock = nanoClock;
+		this.rate = maxRate;
+		this.tokens = Math.max(1, maxRate);
+		this.lastRefillNanos = nanoClock.getAsLong();
+		this.blockedUntilNanos = lastRefillNanos;
+		this.lastRecoveryNanos = lastRefillNanos;
+	}
+
+	/**
+	 * Retrieves {@link #maxRate}
+	 *
+	 * @return value of {@link #maxRate}
+	 */
+	public double getMaxRate() {
+		return maxRate;
+	}
+
+	/**
+	 * Retrieves the current adaptive rate
+	 *
+	 * @return number of requests per second currently allowed
+	 */
+	public synchronized double getRate() {
+		return rate;
+	}
+
+	/**
+	 * Waits until the request is allowed to be sent
+	 *
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public void acquire() throws InterruptedException {
+		long waitNanos;
+		while ((waitNanos = tryReserve()) > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+	/**
+	 * Takes a token from the bucket if one is available, without waiting
+	 *
+	 * @return 0 if a token was taken, otherwise how long to wait before trying again, in nanoseconds
+	 */
+	public synchronized long tryReserve() {
+		long now = nanoClock.getAsLong();
+		if (now - blockedUntilNanos < 0) {
+			return blockedUntilNanos - now;
+		}
+		tokens = Math.min(Math.max(1, rate), tokens + (now - lastRefillNanos) * rate / TimeUnit.SECONDS.toNanos(1));
+		lastRefillNanos = now;
+		if (tokens >= 1) {
+			tokens -= 1;
+			return 0;
+		}
+		return Math.max(1, (long) ((1 - tokens) * TimeUnit.SECONDS.toNanos(1) / rate));
+	}
+
+	/**
+	 * Records a successful request, the rate grows back towards {@link #maxRate} in proportion to the time elapsed since the
+	 * last throttle or the last successful request
+	 */
+	public synchronized void onSuccess() {
+		long now = nanoClock.getAsLong();
+		long elapsed = now - lastRecoveryNanos;
+		if (elapsed <= 0) {
+			return;
+		}
+		rate = Math.min(maxRate, rate + maxRate * elapsed / RECOVERY_PERIOD_NANOS);
+		lastRecoveryNanos = now;
+	}
+
+	/**
+	 * Records a throttled request: the rate is halved, and no request is allowed before the delay has passed
+	 *
+	 * @param delayMs delay requested by the API, or computed by the caller when the API did not request one
+	 */
+	public synchronized void onThrottled(long delayMs) {
+		rate = Math.max(maxRate * MIN_RATE_FACTOR, rate / 2);
+		tokens = Math.min(tokens, 0);
+		long until = nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+		if (until - blockedUntilNanos > 0) {
+			blockedUntilNanos = until;
+		}
+		lastRecoveryNanos = blockedUntilNanos;
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkConstant;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * ValueFormatter formats the timestamps and text values exposed as statistics.
+ * Results are kept in fixed-size direct-mapped caches, keyed by epoch second for timestamps and by raw input for text,
+ * so values repeated from one poll to the next are formatted once. Text that is already in its formatted form is
+ * returned as is. Cache slots hold immutable entries, so the formatter can be shared by any number of threads.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class ValueFormatter {
+	/**
+	 * Pattern of formatted timestamps
+	 */
+	public static final String DATE_TIME_PATTERN = "yyyy/MM/dd HH:mm:ss";
+
+	private static final int EPOCH_CACHE_SIZE = 4096;
+	private static final int TEXT_CACHE_SIZE = 1024;
+
+	/**
+	 * Formatted timestamp of an epoch second
+	 */
+	private static final class EpochEntry {
+		private final long epochSecond;
+		private final String text;
+
+		private EpochEntry(long epochSecond, String text) {
+			this.epochSecond = epochSecond;
+			this.text = text;
+		}
+	}
+
+	/**
+	 * Formatted value of a raw input
+	 */
+	private static final class TextEntry {
+		private final String raw;
+		private final String text;
+
+		private TextEntry(String raw, String text) {
+			this.raw = raw;
+			this.text = text;
+		}
+	}
+
+	/**
+	 * Zone of formatted timestamps together with its formatter and cache, replaced as a whole when the zone changes
+	 */
+	private static final class ZoneState {
+		private final ZoneId zone;
+		private final DateTimeFormatter formatter;
+		private final EpochEntry[] epochCache = new EpochEntry[EPOCH_CACHE_SIZE];
+
+		private ZoneState(ZoneId zone) {
+			this.zone = zone;
+			this.formatter = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN).withZone(zone);
+		}
+	}
+
+	private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(DATE_TIME_PATTERN.length()));
+
+	private volatile ZoneState zoneState;
+	private final TextEntry[] defaultValueCache = new TextEntry[TEXT_CACHE_SIZE];
+	private final TextEntry[] capitalizedCache = new TextEntry[TEXT_CACHE_SIZE];
+
+	/**
+	 * Create an instance of ValueFormatter formatting timestamps in UTC
+	 */
+	public ValueFormatter() {
+		this(ZoneOffset.UTC);
+	}
+
+	/**
+	 * Create an instance of ValueFormatter
+	 *
+	 * @param zone zone of formatted timestamps
+	 */
+	public ValueFormatter(ZoneId zone) {
+		this.zoneState = new ZoneState(zone);
+	}
+
+	/**
+	 * Retrieves the zone of formatted timestamps
+	 *
+	 * @return the zone
+	 */
+	public ZoneId getZone() {
+		return zoneState.zone;
+	}
+
+	/**
+	 * Sets the zone of formatted timestamps. Timestamps formatted in the previous zone are dropped.
+	 *
+	 * @param zone new zone
+	 */
+	public void setZone(ZoneId zone) {
+		if (!zone.equals(zoneState.zone)) {
+			zoneState = new ZoneState(zone);
+		}
+	}
+
+	/**
+	 * Formats a Unix epoch timestamp as {@link #DATE_TIME_PATTERN} in the configured zone
+	 *
+	 * @param epochInput epoch timestamp in seconds or milliseconds
+	 * @return formatted date-time string (e.g., "2025/10/02 02:33:21")
+	 */
+	public String formatEpoch(long epochInput) {
+		long epochSecond = (epochInput < 10_000_000_000L) ? epochInput : Math.floorDiv(epochInput, 1000L);
+		ZoneState state = zoneState;
+		int slot = (int) (epochSecond ^ (epochSecond >>> 32)) & (EPOCH_CACHE_SIZE - 1);
+		EpochEntry entry = state.epochCache[slot];
+		if (entry != null && entry.epochSecond == epochSecond) {
+			return entry.text;
+		}
+		StringBuilder buffer = BUFFER.get();
+		buffer.setLength(0);
+		state.formatter.formatTo(Instant.ofEpochSecond(epochSecond), buffer);
+		String text = buffer.toString();
+		state.epochCache[slot] = new EpochEntry(epochSecond, text);
+		return text;
+	}
+
+	/**
+	 * Formats a text value with its first character in upper case, or {@link YealinkConstant#NOT_AVAILABLE} if the value
+	 * is null, empty or {@code "null"}
+	 *
+	 * @param value raw value
+	 * @return formatted value
+	 */
+	public String formatDefault(String value) {
+		if (StringUtils.isNullOrEmpty(value) || "null".equalsIgnoreCase(value)) {
+			return YealinkConstant.NOT_AVAILABLE;
+		}
+		char first = value.charAt(0);
+		if (Character.toUpperCase(first) == first) {
+			return value;
+		}
+		return lookup(defaultValueCache, value, false);
+	}
+
+	/**
+	 * Formats a text value in lower case with its first character in upper case, or {@link YealinkConstant#NOT_AVAILABLE}
+	 * if the value is null, empty or {@code "null"}
+	 *
+	 * @param value raw value
+	 * @return formatted value
+	 */
+	public String formatCapitalized(String value) {
+		if (StringUtils.isNullOrEmpty(value) || "null".equalsIgnoreCase(value)) {
+			return YealinkConstant.NOT_AVAILABLE;
+		}
+		return lookup(capitalizedCache, value, true);
+	}
+
+	/**
+	 * Retrieves the formatted value of a raw input from a cache, formatting and storing it on a miss
+	 *
+	 * @param cache cache to look up
+	 * @param raw raw input, not empty
+	 * @param lowerCase whether characters after the first one are turned to lower case
+	 * @return formatted value
+	 */
+	private static String lookup(TextEntry[] cache, String raw, boolean lowerCase) {
+		int slot = raw.hashCode() & (cache.length - 1);
+		TextEntry entry = cache[slot];
+		if (entry != null && entry.raw.equals(raw)) {
+			return entry.text;
+		}
+		String rest = lowerCase ? raw.substring(1).toLowerCase(Locale.ROOT) : raw.substring(1);
+		String text = Character.toUpperCase(raw.charAt(0)) + rest;
+		if (text.equals(raw)) {
+			text = raw;
+		}
+		cache[slot] = new TextEntry(raw, text);
+		return text;
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpMethod;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkConstant;
+
+/**
+ * YealinkAsyncTransport sends Yealink API requests through a non-blocking HTTP client.
+ * Connections are pooled and kept alive between requests, HTTP/2 is negotiated over TLS so requests to the same host are
+ * multiplexed on a few connections, and all responses are handled by {@link YealinkConstant#ASYNC_IO_THREADS} I/O threads,
+ * so hundreds of requests can be in flight without a thread blocked on each of them.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class YealinkAsyncTransport {
+	/**
+	 * Provides the headers of a request, such as the bearer token
+	 */
+	public interface HeaderProvider {
+		/**
+		 * @param method HTTP method of the request
+		 * @param uri relative uri of the request
+		 * @return headers to send with the request
+		 * @throws Exception if the headers cannot be built
+		 */
+		Map<String, List<String>> headers(HttpMethod method, String uri) throws Exception;
+	}
+
+	/**
+	 * Parses the body of a successful response
+	 *
+	 * @param <T> type of the parsed response
+	 */
+	public interface ResponseParser<T> {
+		/**
+		 * @param content raw response body, never empty
+		 * @return the parsed response
+		 * @throws Exception if the body cannot be parsed
+		 */
+		T parse(byte[] content) throws Exception;
+	}
+
+	private final String baseUrl;
+	private final HeaderProvider headerProvider;
+	private final ObjectMapper objectMapper;
+	private final CloseableHttpAsyncClient client;
+
+	/**
+	 * Create an instance of YealinkAsyncTransport and starts its I/O reactor
+	 *
+	 * @param baseUrl url the relative uris of the requests are resolved against
+	 * @param trustAllCertificates whether server certificates and host names are trusted without validation
+	 * @param maxConnections maximum number of pooled connections
+	 * @param connectTimeoutMs connect timeout in milliseconds
+	 * @param responseTimeoutMs response timeout in milliseconds, also the maximum time to wait for a pooled connection
+	 * @param headerProvider provides the headers of each request
+	 * @param objectMapper serializes request bodies and parses responses
+	 * @throws Exception if the TLS context cannot be created
+	 */
+	public YealinkAsyncTransport(String baseUrl, boolean trustAllCertificates, int maxConnections, int connectTimeoutMs, int responseTimeoutMs,
+			HeaderProvider headerProvider, ObjectMapper objectMapper) throws Exception {
+		this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+		this.headerProvider = headerProvider;
+		this.objectMapper = objectMapper;
+
+		PoolingAsyncClientConnectionManagerBuilder connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(maxConnections)
+				.setMaxConnPerRoute(maxConnections)
+				.setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE).build())
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+						.setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+						.build());
+		if (trustAllCertificates) {
+			SSLContext sslContext = SSLContexts.custom().loadTrustMaterial(TrustAllStrategy.INSTANCE).build();
+			connectionManager.setTlsStrategy(ClientTlsStrategyBuilder.create()
+					.setSslContext(sslContext)
+					.setHostnameVerifier(NoopHostnameVerifier.INSTANCE)
+					.build());
+		}
+		client = HttpAsyncClients.custom()
+				.setConnectionManager(connectionManager.build())
+				.setIOReactorConfig(IOReactorConfig.custom().setIoThreadCount(YealinkConstant.ASYNC_IO_THREADS).build())
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+						.setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+						.build())
+				.evictIdleConnections(TimeValue.ofMinutes(1))
+				.build();
+		client.start();
+	}
+
+	/**
+	 * Sends a request and parses its response as a JSON tree
+	 *
+	 * @param method HTTP method of the request
+	 * @param uri relative uri of the request
+	 * @param body request body, serialized to JSON, or null for none
+	 * @return future of the parsed response, see {@link #execute(HttpMethod, String, Object, ResponseParser)}
+	 */
+	public CompletableFuture<JsonNode> execute(HttpMethod method, String uri, Object body) {
+		return execute(method, uri, body, objectMapper::readTree);
+	}
+
+	/**
+	 * Sends a request
+	 *
+	 * @param method HTTP method of the request
+	 * @param uri relative uri of the request
+	 * @param body request body, serialized to JSON, or null for none
+	 * @param responseParser parses the body of a successful response
+	 * @return future of the parsed response, null if the response has no body. Completes exceptionally with a
+	 * {@link CommandFailureException} holding the status code if the API answers with an error status, the
+	 * {@code Retry-After} header is then available under {@link YealinkConstant#RETRY_AFTER} in its error context.
+	 */
+	public <T> CompletableFuture<T> execute(HttpMethod method, String uri, Object body, ResponseParser<T> responseParser) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		try {
+			SimpleRequestBuilder builder = SimpleRequestBuilder.create(method.name()).setUri(baseUrl + uri);
+			if (body != null) {
+				byte[] content = body instanceof String ? ((String) body).getBytes(ContentType.APPLICATION_JSON.getCharset()) : objectMapper.writeValueAsBytes(body);
+				builder.setBody(content, ContentType.APPLICATION_JSON);
+			}
+			headerProvider.headers(method, uri).forEach((name, values) -> {
+				if (body == null || !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+					values.forEach(value -> builder.addHeader(name, value));
+				}
+			});
+			SimpleHttpRequest request = builder.build();
+			client.execute(request, new FutureCallback<SimpleHttpResponse>() {
+				@Override
+				public void completed(SimpleHttpResponse response) {
+					try {
+						result.complete(parseResponse(uri, response, responseParser));
+					} catch (Exception e) {
+						result.completeExceptionally(e);
+					}
+				}
+
+				@Override
+				public void failed(Exception e) {
+					result.completeExceptionally(e);
+				}
+
+				@Override
+				public void cancelled() {
+					result.cancel(false);
+				}
+			});
+		} catch (Exception e) {
+			result.completeExceptionally(e);
+		}
+		return result;
+	}
+
+	/**
+	 * Closes the pooled connections and stops the I/O reactor
+	 */
+	public void close() {
+		client.close(CloseMode.IMMEDIATE);
+	}
+
+	/**
+	 * Parses a response
+	 *
+	 * @param uri relative uri of the request
+	 * @param response response of the request
+	 * @param responseParser parses the body of a successful response
+	 * @return the parsed body, null if the response has no body
+	 * @throws Exception if the response has an error status or its body cannot be parsed
+	 */
+	private <T> T parseResponse(String uri, SimpleHttpResponse response, ResponseParser<T> responseParser) throws Exception {
+		byte[] content = response.getBodyBytes();
+		if (response.getCode() >= 400) {
+			String responseBody = content == null ? null : new String(content, ContentType.APPLICATION_JSON.getCharset());
+			Header retryAfter = response.getFirstHeader(YealinkConstant.RETRY_AFTER);
+			Map<String, Object> errorContext = retryAfter == null ? Collections.emptyMap() : Collections.singletonMap(YealinkConstant.RETRY_AFTER, retryAfter.getValue());
+			throw new CommandFailureException(baseUrl, uri, responseBody, response.getCode(), null, errorContext);
+		}
+		return content == null || content.length == 0 ? null : responseParser.parse(content);
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * YealinkTokenManager keeps the bearer token of the Yealink API up to date.
+ * The current token is published through a volatile reference, so request threads read it without locking.
+ * A background task refreshes the token ahead of its {@code expires_in}, and only one refresh runs at a time: callers that
+ * find the token missing or expired while a refresh is in flight wait for it instead of requesting another token.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class YealinkTokenManager {
+	/**
+	 * Minimum time before the expiration at which the token is refreshed
+	 */
+	private static final long TOKEN_SKEW_MS = TimeUnit.SECONDS.toMillis(30);
+
+	/**
+	 * Delay before a failed background refresh is attempted again
+	 */
+	private static final long RETRY_DELAY_MS = TimeUnit.SECONDS.toMillis(30);
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final Callable<LoginInfo> tokenRequester;
+	private final ReentrantLock refreshLock = new ReentrantLock();
+	private volatile LoginInfo loginInfo;
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * Create an instance of YealinkTokenManager
+	 *
+	 * @param tokenRequester requests a new token from the API, returns null if the response holds no token
+	 */
+	public YealinkTokenManager(Callable<LoginInfo> tokenRequester) {
+		this.tokenRequester = tokenRequester;
+	}
+
+	/**
+	 * Starts the background refresh scheduler
+	 */
+	public synchronized void start() {
+		if (scheduler == null) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "yealink-token-refresh");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * Stops the background refresh scheduler and drops the current token
+	 */
+	public synchronized void stop() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+		loginInfo = null;
+	}
+
+	/**
+	 * Retrieves the current access token without locking
+	 *
+	 * @return the access token, or null if no token was retrieved yet
+	 */
+	public String getAccessToken() {
+		LoginInfo current = loginInfo;
+		return current == null ? null : current.getAccessToken();
+	}
+
+	/**
+	 * Returns a valid token, requesting one on the calling thread only if the current token is missing or expired,
+	 * which normally only happens before the first request or after the background refresh kept failing.
+	 *
+	 * @return the current login info, or null if the API did not return a token
+	 * @throws Exception if the token request fails
+	 */
+	public LoginInfo ensureToken() throws Exception {
+		LoginInfo current = loginInfo;
+		if (isValid(current, 0)) {
+			return current;
+		}
+		return refresh(0);
+	}
+
+	/**
+	 * Refreshes the token unless another thread already did while this one was waiting for {@link #refreshLock}.
+	 *
+	 * @param aheadMs how long before the expiration the current token is considered too old
+	 * @return the current login info
+	 * @throws Exception if the token request fails
+	 */
+	private LoginInfo refresh(long aheadMs) throws Exception {
+		refreshLock.lock();
+		try {
+			LoginInfo current = loginInfo;
+			if (isValid(current, aheadMs)) {
+				return current;
+			}
+			LoginInfo refreshed = tokenRequester.call();
+			loginInfo = refreshed;
+			if (refreshed != null) {
+				scheduleRefresh(refreshAheadMs(refreshed), lifetimeMs(refreshed) - refreshAheadMs(refreshed));
+			}
+			return refreshed;
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	/**
+	 * Schedules a background refresh
+	 *
+	 * @param aheadMs how long before the expiration the refresh has to replace the token
+	 * @param delayMs delay before the refresh runs
+	 */
+	private synchronized void scheduleRefresh(long aheadMs, long delayMs) {
+		if (scheduler == null) {
+			return;
+		}
+		scheduler.schedule(() -> {
+			try {
+				refresh(aheadMs);
+			} catch (Exception e) {
+				logger.warn("Unable to refresh the Yealink API token in background, retrying later", e);
+				scheduleRefresh(aheadMs, RETRY_DELAY_MS);
+			}
+		}, Math.max(0, delayMs), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Checks whether a token is usable for at least {@code aheadMs} more milliseconds
+	 *
+	 * @param info login info to check
+	 * @param aheadMs required remaining lifetime in addition to {@link #TOKEN_SKEW_MS}
+	 * @return true if the token does not need to be refreshed
+	 */
+	private boolean isValid(LoginInfo info, long aheadMs) {
+		if (info == null || StringUtils.isNullOrEmpty(info.getAccessToken())) {
+			return false;
+		}
+		long expiresAt = info.getLoginDateTime() + lifetimeMs(info);
+		return System.currentTimeMillis() < expiresAt - Math.max(aheadMs, TOKEN_SKEW_MS);
+	}
+
+	/**
+	 * Retrieves the lifetime of a token
+	 *
+	 * @param info login info
+	 * @return lifetime in milliseconds, 0 if unknown
+	 */
+	private long lifetimeMs(LoginInfo info) {
+		Long expiresIn = info.getExpiresIn();
+		return expiresIn == null || expiresIn <= 0 ? 0 : TimeUnit.SECONDS.toMillis(expiresIn);
+	}
+
+	/**
+	 * Background refreshes run when a tenth of the lifetime is left, and never later than {@link #TOKEN_SKEW_MS} before expiration
+	 *
+	 * @param info login info
+	 * @return how long before the expiration the background refresh runs
+	 */
+	private long refreshAheadMs(LoginInfo info) {
+		return Math.max(lifetimeMs(info) / 10, TOKEN_SKEW_MS);
+	}
+}
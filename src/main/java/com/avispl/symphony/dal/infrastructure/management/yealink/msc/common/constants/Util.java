@@ -3,10 +3,6 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants;
 
-import java.time.Instant;
-import java.time.ZoneId;
-
-import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -15,6 +11,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.ValueFormatter;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -25,9 +22,7 @@ import com.avispl.symphony.dal.util.StringUtils;
  */
 public class Util {
 
-	private static final ZoneId ZONE_HCM = ZoneId.of("Asia/Ho_Chi_Minh");
-	private static final DateTimeFormatter FORMATTER =
-			DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss").withZone(ZONE_HCM);
+	private static final ValueFormatter UTC_FORMATTER = new ValueFormatter();
 
 	/**
 	 * Add addAdvancedControlProperties if advancedControllableProperties different empty
@@ -72,7 +67,8 @@ public class Util {
 	 */
 	public static String uppercaseFirstCharacter(String input) {
 		char firstChar = input.charAt(0);
-		return Character.toUpperCase(firstChar) + input.substring(1);
+		char upperChar = Character.toUpperCase(firstChar);
+		return upperChar == firstChar ? input : upperChar + input.substring(1);
 	}
 
 	/**
@@ -118,8 +114,7 @@ public class Util {
 	 * @return formatted UTC date-time string (e.g., "2025/10/02 02:33:21")
 	 */
 	public static String formatEpochUtc(long epochInput) {
-		long epochMillis = (epochInput < 10_000_000_000L) ? epochInput * 1000L : epochInput;
-		return FORMATTER.format(Instant.ofEpochMilli(epochMillis));
+		return UTC_FORMATTER.formatEpoch(epochInput);
 	}
 
 	/**
@@ -23,4 +23,6 @@ public class YealinkCommand {
 	public static final String EXPORT_LOG_URI = "dm/devices/%s/exportSyslog";
 	public static final String SCREEN_CAPTURE_URI = "dm/devices/%s/captureScreen";
 	public static final String STATUS_OF_DIAGNOSIS = "dm/diagnosis/%s/status";
+	public static final String DEVICE_COUNT_PATH = "dm/statistics/deviceCount";
+	public static final String DIAGNOSIS_PATH = "dm/diagnosis/";
 }
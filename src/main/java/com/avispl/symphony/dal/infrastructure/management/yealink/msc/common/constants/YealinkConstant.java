@@ -33,10 +33,76 @@ public class YealinkConstant {
 	public static final String DEFAULT_TYPE_TO_REBOOT = "3";
 	public static final int DEFAULT_LIMIT = 20;
 	public static final int MAX_LIMIT = 1000;
+	public static final int MAX_PAGE_CONCURRENCY = 4;
+	public static final int DEFAULT_DETAIL_CONCURRENCY = 8;
+	public static final int MAX_DETAIL_CONCURRENCY = 64;
+	public static final long DEFAULT_ACCESSORY_CACHE_TTL = 300;
+	public static final long COLLECTION_INTERVAL = 30000;
+	public static final long NETWORK_INTERFACE_CACHE_TTL = 6 * 60 * 60 * 1000;
+	public static final long DEVICE_COUNT_CACHE_TTL = 5 * 60 * 1000;
+	public static final int CONTROL_LOCK_STRIPES = 64;
+	public static final int REBOOT_BATCH_SIZE = 100;
+	public static final String DEVICE_IDS = "deviceIds";
+	public static final String REBOOT_LAST_RESULT = "LastResult";
+	public static final String REBOOT_SUCCEEDED = "Succeeded";
+	public static final String REBOOT_FAILED = "Failed";
+	public static final String DIAGNOSIS = "Diagnosis_";
+	public static final String DIAGNOSIS_STATUS = "Status";
+	public static final String DIAGNOSIS_PROGRESS = "Progress(%)";
+	public static final String DIAGNOSIS_LAST_UPDATE = "LastUpdate";
+	public static final String DIAGNOSIS_STARTED = "Started";
+	public static final String DIAGNOSIS_UNKNOWN = "Unknown";
+	public static final String DIAGNOSIS_UNTRACKED = "Started (untracked)";
+	public static final String DIAGNOSIS_STATUS_FIELD = "status";
+	public static final String DIAGNOSIS_PROGRESS_FIELD = "progress";
+	public static final String DIAGNOSIS_ID_FIELD = "diagnosisId";
+	public static final int MAX_REQUEST_RETRIES = 3;
+	public static final long RETRY_BASE_DELAY = 1000;
+	public static final long MAX_RETRY_DELAY = 60000;
+	public static final String RETRY_AFTER = "Retry-After";
+	public static final int ASYNC_IO_THREADS = 2;
+	public static final int DEFAULT_ASYNC_MAX_CONNECTIONS = 20;
+	public static final int DEFAULT_ASYNC_CONNECT_TIMEOUT = 10000;
+	public static final int DEFAULT_ASYNC_RESPONSE_TIMEOUT = 30000;
+	public static final String TOTAL = "total";
+	public static final String ID = "id";
+	public static final String FILTER = "filter";
 	public static final String MONITORING_CYCLE_DURATION = "LastMonitoringCycleDuration(s)";
 	public static final String ADAPTER_VERSION = "AdapterVersion";
 	public static final String MONITORED_DEVICES_TOTAL = "MonitoredDevicesTotal";
 	public static final String ADAPTER_BUILD_DATE = "AdapterBuildDate";
 	public static final String ADAPTER_UPTIME_MIN = "AdapterUptime(min)";
 	public static final String ADAPTER_UPTIME = "AdapterUptime";
+	public static final String API_STATISTICS = "API_";
+	public static final String LATENCY_P50 = "LatencyP50(ms)";
+	public static final String LATENCY_P95 = "LatencyP95(ms)";
+	public static final String LATENCY_P99 = "LatencyP99(ms)";
+	public static final String REQUEST_ERRORS = "Errors";
+	public static final String REQUEST_RATE = "RequestRate(rps)";
+	public static final String MONITORING_CYCLE = "MonitoringCycle";
+	public static final String CYCLE_TOTAL = "Total(ms)";
+	public static final String CYCLE_LIST_PAGING = "ListPaging(ms)";
+	public static final String CYCLE_DETAIL_FETCH = "DetailFetch(ms)";
+	public static final String CYCLE_ACCESSORY_FETCH = "AccessoryFetch(ms)";
+	public static final String CYCLE_SNAPSHOT_MAPPING = "SnapshotMapping(ms)";
+	public static final String CYCLE_DEVICES_PROCESSED = "DevicesProcessed";
+	public static final String CYCLE_DEVICES_SKIPPED = "DevicesSkipped";
+	public static final String CYCLE_DEVICES_PENDING = "DevicesPending";
+	public static final String CYCLE_CACHE_HIT_RATIO = "CacheHitRatio(%)";
+	public static final String CYCLE_SNAPSHOT_AGE = "SnapshotAge(ms)";
+	public static final int DEFAULT_PARTITION_COUNT = 4;
+	public static final int MAX_PARTITION_WORKERS = 8;
+	public static final long MAX_PARTITION_BACKOFF = 5 * 60 * 1000;
+	public static final String PARTITION = "Partition_";
+	public static final String PARTITION_DEVICES = "Devices";
+	public static final String PARTITION_FAILURES = "ConsecutiveFailures";
+	public static final String PARTITION_UNASSIGNED = "Unassigned";
+	public static final String PARTITION_SITE = "Site_";
+	public static final long DEVICE_DETAIL_TIMEOUT = 2 * 60 * 1000;
+	public static final int DEFAULT_HISTORY_SIZE = 20;
+	public static final int MAX_HISTORY_SIZE = 1440;
+	public static final long HISTORY_MEMORY_BUDGET = 64L * 1024 * 1024;
+	public static final String HISTORY_MIN = "Min";
+	public static final String HISTORY_AVG = "Avg";
+	public static final String HISTORY_MAX = "Max";
 }
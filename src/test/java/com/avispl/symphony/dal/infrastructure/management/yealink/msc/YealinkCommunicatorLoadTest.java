@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.github.tomakehurst.wiremock.http.UniformDistribution;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.simulator.YealinkMcsSimulator;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.simulator.YealinkMcsSimulator.Endpoint;
+
+/**
+ * YealinkCommunicatorLoadTest runs collection cycles against {@link YealinkMcsSimulator}, and checks their duration and
+ * the number of API calls they make. Tagged {@code load}, run with the {@code load} Maven profile.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+@Tag("load")
+public class YealinkCommunicatorLoadTest {
+	private YealinkMcsSimulator simulator;
+	private YealinkCommunicator yealinkCommunicator;
+
+	@BeforeEach
+	void setUp() {
+		simulator = new YealinkMcsSimulator();
+	}
+
+	@AfterEach
+	void destroy() throws Exception {
+		if (yealinkCommunicator != null) {
+			yealinkCommunicator.destroy();
+		}
+		simulator.stop();
+	}
+
+	/**
+	 * Creates a communicator pointed at {@link #simulator} with request rates above the simulated load, without partitions
+	 *
+	 * @param asyncTransport whether the collector uses the non-blocking transport
+	 */
+	private void startCommunicator(boolean asyncTransport) throws Exception {
+		startCommunicator(asyncTransport, "None");
+	}
+
+	/**
+	 * Creates a communicator pointed at {@link #simulator} with request rates above the simulated load
+	 *
+	 * @param asyncTransport whether the collector uses the non-blocking transport
+	 * @param partitionMode partition mode set before the communicator is initialized
+	 */
+	private void startCommunicator(boolean asyncTransport, String partitionMode) throws Exception {
+		simulator.start();
+		yealinkCommunicator = new YealinkCommunicator();
+		yealinkCommunicator.setHost("127.0.0.1");
+		yealinkCommunicator.setProtocol("http");
+		yealinkCommunicator.setPort(simulator.getPort());
+		yealinkCommunicator.setLogin("client-id");
+		yealinkCommunicator.setPassword("client-secret");
+		yealinkCommunicator.setMaxConnectionsPerRoute(32);
+		yealinkCommunicator.setMaxConnectionsTotal(32);
+		yealinkCommunicator.setDetailFetchConcurrency(16);
+		yealinkCommunicator.setRequestRateLimits("List:100,Detail:2000,ListParts:2000,Control:100");
+		yealinkCommunicator.setAsyncTransport(asyncTransport);
+		yealinkCommunicator.setPartitionMode(partitionMode);
+		yealinkCommunicator.init();
+	}
+
+	/**
+	 * Polls {@link YealinkCommunicator#retrieveMultipleStatistics()} until the whole fleet is published
+	 *
+	 * @param fleetSize expected number of devices
+	 * @param timeoutMs maximum time to wait
+	 * @return time until the fleet was published, in milliseconds
+	 */
+	private long awaitFleet(int fleetSize, long timeoutMs) throws Exception {
+		long start = System.currentTimeMillis();
+		long deadline = start + timeoutMs;
+		while (System.currentTimeMillis() < deadline) {
+			if (yealinkCommunicator.retrieveMultipleStatistics().size() == fleetSize) {
+				return System.currentTimeMillis() - start;
+			}
+			TimeUnit.MILLISECONDS.sleep(100);
+		}
+		Assertions.fail(String.format("%d devices were not published within %d ms, got %d", fleetSize, timeoutMs,
+				yealinkCommunicator.retrieveMultipleStatistics().size()));
+		return -1;
+	}
+
+	@Test
+	void testCycleTimeAndCallCount() throws Exception {
+		simulator.withFleetSize(2500).withLatency(new UniformDistribution(5, 15));
+		startCommunicator(false);
+
+		long cycleTime = awaitFleet(2500, TimeUnit.SECONDS.toMillis(30));
+
+		Assertions.assertTrue(cycleTime < TimeUnit.SECONDS.toMillis(15), "Cycle took " + cycleTime + " ms");
+		Assertions.assertEquals(1, simulator.getCallCount(Endpoint.TOKEN));
+		Assertions.assertEquals(3, simulator.getCallCount(Endpoint.LIST_DEVICES));
+		Assertions.assertEquals(2500, simulator.getCallCount(Endpoint.DEVICE_DETAIL));
+		Assertions.assertEquals(2500, simulator.getCallCount(Endpoint.LIST_PARTS));
+		Assertions.assertEquals(0, simulator.getCallCount(Endpoint.NETWORK_INTERFACES));
+		Assertions.assertEquals(0, simulator.getCallCount(Endpoint.DEVICE_COUNT));
+	}
+
+	@Test
+	void testCycleTimeAndCallCountWithAsyncTransport() throws Exception {
+		simulator.withFleetSize(2500).withLatency(new UniformDistribution(5, 15));
+		startCommunicator(true);
+
+		long cycleTime = awaitFleet(2500, TimeUnit.SECONDS.toMillis(30));
+
+		Assertions.assertTrue(cycleTime < TimeUnit.SECONDS.toMillis(15), "Cycle took " + cycleTime + " ms");
+		Assertions.assertEquals(3, simulator.getCallCount(Endpoint.LIST_DEVICES));
+		Assertions.assertEquals(2500, simulator.getCallCount(Endpoint.DEVICE_DETAIL));
+		Assertions.assertEquals(2500, simulator.getCallCount(Endpoint.LIST_PARTS));
+	}
+
+	@Test
+	void testSitePartitionedCollection() throws Exception {
+		simulator.withFleetSize(2500).withLatency(new UniformDistribution(5, 15));
+		startCommunicator(false, "Site");
+
+		long cycleTime = awaitFleet(2500, TimeUnit.SECONDS.toMillis(30));
+
+		Assertions.assertTrue(cycleTime < TimeUnit.SECONDS.toMillis(15), "Cycle took " + cycleTime + " ms");
+		Assertions.assertEquals(2500, simulator.getCallCount(Endpoint.DEVICE_DETAIL));
+		Assertions.assertEquals(2500, simulator.getCallCount(Endpoint.LIST_PARTS));
+		Map<String, String> dynamicStatistics = ((ExtendedStatistics) yealinkCommunicator.getMultipleStatistics().get(0)).getDynamicStatistics();
+		Assertions.assertEquals(40, dynamicStatistics.keySet().stream().filter(key -> key.startsWith("Partition_") && key.endsWith("#Devices")).count());
+	}
+
+	@Test
+	void testCycleRecoversFromServerErrors() throws Exception {
+		simulator.withFleetSize(300).withLatency(new UniformDistribution(5, 15)).withErrorRate(0.02);
+		startCommunicator(false);
+
+		awaitFleet(300, TimeUnit.SECONDS.toMillis(60));
+
+		Assertions.assertTrue(simulator.getErrorCount() > 0);
+		Assertions.assertTrue(simulator.getCallCount(Endpoint.DEVICE_DETAIL) + simulator.getCallCount(Endpoint.LIST_PARTS) > 600);
+	}
+
+	@Test
+	void testCycleRecoversFromThrottling() throws Exception {
+		simulator.withFleetSize(500).withThrottleRate(200);
+		startCommunicator(false);
+
+		awaitFleet(500, TimeUnit.SECONDS.toMillis(90));
+
+		Assertions.assertTrue(simulator.getThrottledCount() > 0);
+		Assertions.assertTrue(simulator.getCallCount(Endpoint.DEVICE_DETAIL) >= 500);
+	}
+
+	@Test
+	void testRebootIsBatched() throws Exception {
+		simulator.withFleetSize(250);
+		startCommunicator(false);
+		yealinkCommunicator.setConfigManagement(true);
+		awaitFleet(250, TimeUnit.SECONDS.toMillis(30));
+
+		List<ControllableProperty> reboots = new ArrayList<>();
+		for (AggregatedDevice device : yealinkCommunicator.retrieveMultipleStatistics()) {
+			ControllableProperty reboot = new ControllableProperty();
+			reboot.setDeviceId(device.getDeviceId());
+			reboot.setProperty("Controls#Reboot");
+			reboot.setValue(1);
+			reboots.add(reboot);
+		}
+		yealinkCommunicator.controlProperties(reboots);
+
+		Assertions.assertEquals(3, simulator.getCallCount(Endpoint.REBOOT));
+		TimeUnit.SECONDS.sleep(2);
+		for (AggregatedDevice device : yealinkCommunicator.retrieveMultipleStatistics()) {
+			Assertions.assertEquals("Succeeded", device.getProperties().get("Reboot#LastResult"));
+		}
+	}
+
+	@Test
+	void testDiagnosisIsTrackedToCompletion() throws Exception {
+		simulator.withFleetSize(10);
+		startCommunicator(false);
+		yealinkCommunicator.setConfigManagement(true);
+		awaitFleet(10, TimeUnit.SECONDS.toMillis(30));
+
+		ControllableProperty exportLog = new ControllableProperty();
+		exportLog.setDeviceId(YealinkMcsSimulator.deviceId(1));
+		exportLog.setProperty("Controls#ExportLog");
+		exportLog.setValue(1);
+		yealinkCommunicator.controlProperty(exportLog);
+		TimeUnit.SECONDS.sleep(20);
+
+		Assertions.assertEquals(1, simulator.getCallCount(Endpoint.DIAGNOSIS_START));
+		Assertions.assertTrue(simulator.getCallCount(Endpoint.DIAGNOSIS_STATUS) >= 2);
+		Map<String, String> properties = yealinkCommunicator.retrieveMultipleStatistics(Collections.singletonList(YealinkMcsSimulator.deviceId(1))).get(0).getProperties();
+		Assertions.assertEquals("Finished", properties.get("Diagnosis_ExportLog#Status"));
+		Assertions.assertEquals("100", properties.get("Diagnosis_ExportLog#Progress(%)"));
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * YealinkCommunicatorRebootTest checks how the failed devices of a multi-device reboot response are extracted
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class YealinkCommunicatorRebootTest {
+	private static final List<String> DEVICE_IDS = Arrays.asList("device-1", "device-2", "device-3");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private YealinkCommunicator yealinkCommunicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		yealinkCommunicator = new YealinkCommunicator();
+	}
+
+	@Test
+	void testSuccessfulResponseHasNoFailedDevice() throws Exception {
+		JsonNode response = objectMapper.readTree("{\"successCount\":3,\"failureCount\":0,\"errors\":[]}");
+		Assertions.assertTrue(yealinkCommunicator.extractFailedDeviceIds(response, DEVICE_IDS).isEmpty());
+		Assertions.assertTrue(yealinkCommunicator.extractFailedDeviceIds(null, DEVICE_IDS).isEmpty());
+	}
+
+	@Test
+	void testErrorsNameFailedDevices() throws Exception {
+		JsonNode response = objectMapper.readTree("{\"failureCount\":3,\"errors\":[\"device-1\",{\"deviceId\":\"device-2\"},{\"id\":\"device-3\"}]}");
+		Assertions.assertEquals(new HashSet<>(DEVICE_IDS), yealinkCommunicator.extractFailedDeviceIds(response, DEVICE_IDS));
+	}
+
+	@Test
+	void testErrorsOfUnknownDevicesAreIgnored() throws Exception {
+		JsonNode response = objectMapper.readTree("{\"failureCount\":2,\"errors\":[\"device-9\",{\"deviceId\":\"device-2\"}]}");
+		Assertions.assertEquals(Collections.singleton("device-2"), yealinkCommunicator.extractFailedDeviceIds(response, DEVICE_IDS));
+	}
+
+	@Test
+	void testUnattributedFailureOfSingleDeviceRequest() throws Exception {
+		JsonNode response = objectMapper.readTree("{\"failureCount\":1,\"errors\":[]}");
+		List<String> deviceIds = Collections.singletonList("device-1");
+		Assertions.assertEquals(Collections.singleton("device-1"), yealinkCommunicator.extractFailedDeviceIds(response, deviceIds));
+	}
+
+	@Test
+	void testUnattributedFailuresOfMultiDeviceRequestAreNotGuessed() throws Exception {
+		JsonNode response = objectMapper.readTree("{\"failureCount\":2,\"errors\":[\"device-3\"]}");
+		Assertions.assertEquals(Collections.singleton("device-3"), yealinkCommunicator.extractFailedDeviceIds(response, DEVICE_IDS));
+	}
+}
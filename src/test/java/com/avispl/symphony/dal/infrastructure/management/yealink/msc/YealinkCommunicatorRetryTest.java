@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+
+/**
+ * YealinkCommunicatorRetryTest checks the delay applied before a throttled or failed request is retried
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class YealinkCommunicatorRetryTest {
+	private YealinkCommunicator yealinkCommunicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		yealinkCommunicator = new YealinkCommunicator();
+	}
+
+	/**
+	 * Creates the failure of a blocking request answered with a {@code Retry-After} header
+	 *
+	 * @param retryAfter value of the header, null for no header
+	 * @return the failure
+	 */
+	private static CommandFailureException blockingFailure(String retryAfter) {
+		HttpHeaders headers = new HttpHeaders();
+		if (retryAfter != null) {
+			headers.set("Retry-After", retryAfter);
+		}
+		HttpClientErrorException cause = new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, new byte[0],
+				StandardCharsets.UTF_8);
+		return new CommandFailureException("127.0.0.1", "dm/listDevices", "", 429, cause);
+	}
+
+	/**
+	 * Creates the failure of a non-blocking request answered with a {@code Retry-After} header
+	 *
+	 * @param retryAfter value of the header
+	 * @return the failure
+	 */
+	private static CommandFailureException asyncFailure(String retryAfter) {
+		return new CommandFailureException("127.0.0.1", "dm/listDevices", "", 429, null, Collections.singletonMap("Retry-After", retryAfter));
+	}
+
+	@Test
+	void testRetryAfterInSeconds() {
+		Assertions.assertEquals(7000, yealinkCommunicator.retrieveRetryDelay(blockingFailure("7"), 0));
+		Assertions.assertEquals(3000, yealinkCommunicator.retrieveRetryDelay(asyncFailure(" 3 "), 2));
+	}
+
+	@Test
+	void testRetryAfterAsHttpDate() {
+		String retryAfter = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(10));
+		long delay = yealinkCommunicator.retrieveRetryDelay(blockingFailure(retryAfter), 0);
+		Assertions.assertTrue(delay > 8000 && delay <= 10000, "delay " + delay);
+		delay = yealinkCommunicator.retrieveRetryDelay(asyncFailure(retryAfter), 0);
+		Assertions.assertTrue(delay > 8000 && delay <= 10000, "delay " + delay);
+	}
+
+	@Test
+	void testRetryAfterInThePastIsNoDelay() {
+		String retryAfter = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+		Assertions.assertEquals(0, yealinkCommunicator.retrieveRetryDelay(blockingFailure(retryAfter), 0));
+	}
+
+	@Test
+	void testExponentialDelayWithoutRetryAfter() {
+		Assertions.assertEquals(1000, yealinkCommunicator.retrieveRetryDelay(blockingFailure(null), 0));
+		Assertions.assertEquals(4000, yealinkCommunicator.retrieveRetryDelay(blockingFailure(null), 2));
+		Assertions.assertEquals(4000, yealinkCommunicator.retrieveRetryDelay(blockingFailure("soon"), 2));
+	}
+
+	@Test
+	void testDelayIsCapped() {
+		Assertions.assertEquals(60000, yealinkCommunicator.retrieveRetryDelay(blockingFailure("3600"), 0));
+		Assertions.assertEquals(60000, yealinkCommunicator.retrieveRetryDelay(blockingFailure(null), 10));
+	}
+}
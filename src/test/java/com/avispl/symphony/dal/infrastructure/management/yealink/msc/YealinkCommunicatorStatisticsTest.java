@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.simulator.YealinkMcsSimulator;
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.simulator.YealinkMcsSimulator.Endpoint;
+
+/**
+ * YealinkCommunicatorStatisticsTest checks against {@link YealinkMcsSimulator} that the aggregator statistics are served
+ * from the collected data, without a request per poll
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class YealinkCommunicatorStatisticsTest {
+	private static final int FLEET_SIZE = 10;
+	private static final int POLLS = 20;
+
+	private YealinkMcsSimulator simulator;
+	private YealinkCommunicator yealinkCommunicator;
+
+	@BeforeEach
+	void setUp() {
+		simulator = new YealinkMcsSimulator().withFleetSize(FLEET_SIZE);
+	}
+
+	@AfterEach
+	void destroy() throws Exception {
+		if (yealinkCommunicator != null) {
+			yealinkCommunicator.destroy();
+		}
+		simulator.stop();
+	}
+
+	/**
+	 * Creates a communicator pointed at {@link #simulator} and waits until the fleet is published
+	 */
+	private void startCommunicator() throws Exception {
+		simulator.start();
+		yealinkCommunicator = new YealinkCommunicator();
+		yealinkCommunicator.setHost("127.0.0.1");
+		yealinkCommunicator.setProtocol("http");
+		yealinkCommunicator.setPort(simulator.getPort());
+		yealinkCommunicator.setLogin("client-id");
+		yealinkCommunicator.setPassword("client-secret");
+		yealinkCommunicator.init();
+
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+		while (yealinkCommunicator.retrieveMultipleStatistics().size() < FLEET_SIZE) {
+			Assertions.assertTrue(System.currentTimeMillis() < deadline, "The fleet was not published within 30 s");
+			TimeUnit.MILLISECONDS.sleep(100);
+		}
+	}
+
+	/**
+	 * Polls the aggregator statistics {@link #POLLS} times
+	 *
+	 * @return dynamic statistics of the last poll
+	 */
+	private Map<String, String> poll() throws Exception {
+		Map<String, String> dynamicStatistics = null;
+		for (int i = 0; i < POLLS; i++) {
+			dynamicStatistics = ((ExtendedStatistics) yealinkCommunicator.getMultipleStatistics().get(0)).getDynamicStatistics();
+		}
+		return dynamicStatistics;
+	}
+
+	@Test
+	void testDevicesTotalIsTakenFromTheList() throws Exception {
+		startCommunicator();
+
+		Map<String, String> dynamicStatistics = poll();
+
+		Assertions.assertEquals(String.valueOf(FLEET_SIZE), dynamicStatistics.get("MonitoredDevicesTotal"));
+		Assertions.assertEquals(0, simulator.getCallCount(Endpoint.DEVICE_COUNT));
+	}
+
+	@Test
+	void testDeviceCountFallbackIsNotRequestedPerPoll() throws Exception {
+		simulator.withListTotal(false);
+		startCommunicator();
+		int deviceCountCalls = simulator.getCallCount(Endpoint.DEVICE_COUNT);
+
+		Map<String, String> dynamicStatistics = poll();
+
+		Assertions.assertEquals(String.valueOf(FLEET_SIZE), dynamicStatistics.get("MonitoredDevicesTotal"));
+		Assertions.assertEquals(1, deviceCountCalls);
+		Assertions.assertEquals(deviceCountCalls, simulator.getCallCount(Endpoint.DEVICE_COUNT));
+	}
+}
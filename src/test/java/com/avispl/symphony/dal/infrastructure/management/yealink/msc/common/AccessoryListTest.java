@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.metric.Accessory;
+
+/**
+ * AccessoryListTest checks which values {@link AccessoryList} and {@link AccessoryInfo} keep from a
+ * {@code dm/devices/{id}/listParts} response
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class AccessoryListTest {
+	private final ObjectReader accessoryListReader = new ObjectMapper().readerFor(AccessoryList.class);
+
+	/**
+	 * Parses a response
+	 *
+	 * @param json content of the response
+	 * @return the parsed response
+	 */
+	private AccessoryList parse(String json) throws IOException {
+		return accessoryListReader.readValue(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void testKeptFieldsOfEntries() throws Exception {
+		AccessoryList list = parse("{\"total\":2,\"data\":["
+				+ "{\"id\":\"part-1\",\"mac\":\"805ec0000002\",\"sn\":\"SN1\",\"modelId\":\"m-1\",\"modelName\":\"VCH51\",\"connectWay\":\"wired\","
+				+ "\"connStatus\":\"1\",\"lanIp\":\"10.0.0.2\",\"programVersion\":\"1.0\",\"lastReportTime\":1759372401000,\"firmware\":{\"x\":1}},"
+				+ "{\"id\":\"part-2\",\"modelName\":\"CPW90\"}]}");
+
+		Assertions.assertEquals(2, list.getData().length);
+		AccessoryInfo first = list.getData()[0];
+		Assertions.assertEquals("part-1", first.getValue(Accessory.ACCESSORY_ID));
+		Assertions.assertEquals("805ec0000002", first.getValue(Accessory.MAC));
+		Assertions.assertEquals("SN1", first.getValue(Accessory.SN));
+		Assertions.assertEquals("m-1", first.getValue(Accessory.MODEL_ID));
+		Assertions.assertEquals("VCH51", first.getModelName());
+		Assertions.assertEquals("wired", first.getValue(Accessory.CONNECT_WAY));
+		Assertions.assertEquals("1", first.getValue(Accessory.CONN_STATUS));
+		Assertions.assertEquals("10.0.0.2", first.getValue(Accessory.LAN_IP));
+		Assertions.assertEquals("1.0", first.getValue(Accessory.PROGRAM_VERSION));
+		Assertions.assertEquals("1759372401000", first.getValue(Accessory.LAST_REPORT_TIME));
+		Assertions.assertEquals("CPW90", list.getData()[1].getModelName());
+	}
+
+	@Test
+	void testMissingAndNullFields() throws Exception {
+		AccessoryList list = parse("{\"data\":[{\"id\":\"part-1\",\"mac\":null,\"lastReportTime\":null}]}");
+
+		AccessoryInfo entry = list.getData()[0];
+		Assertions.assertEquals("part-1", entry.getValue(Accessory.ACCESSORY_ID));
+		Assertions.assertNull(entry.getValue(Accessory.MAC));
+		Assertions.assertNull(entry.getValue(Accessory.LAST_REPORT_TIME));
+		Assertions.assertNull(entry.getValue(Accessory.CONN_STATUS));
+		Assertions.assertNull(entry.getModelName());
+	}
+
+	@Test
+	void testNonNumericLastReportTimeIsKeptAsText() throws Exception {
+		AccessoryList list = parse("{\"data\":[{\"id\":\"part-1\",\"lastReportTime\":\"unknown\"}]}");
+
+		Assertions.assertEquals("unknown", list.getData()[0].getValue(Accessory.LAST_REPORT_TIME));
+	}
+
+	@Test
+	void testMissingOrNullData() throws Exception {
+		Assertions.assertNull(parse("{\"total\":0}").getData());
+		Assertions.assertNull(parse("{\"data\":null}").getData());
+		Assertions.assertEquals(0, parse("{\"data\":[]}").getData().length);
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CollectionCycleMetricsTest checks the phase spans and counters of {@link CollectionCycleMetrics}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class CollectionCycleMetricsTest {
+
+	@Test
+	void testConcurrentFetchesAreMeasuredAsWallTime() throws Exception {
+		CollectionCycleMetrics cycle = new CollectionCycleMetrics();
+		for (int i = 0; i < 10; i++) {
+			cycle.detailFetchDispatched();
+		}
+		TimeUnit.MILLISECONDS.sleep(100);
+		for (int i = 0; i < 10; i++) {
+			cycle.detailFetchCompleted(i == 0);
+		}
+
+		long detailFetchMillis = cycle.getDetailFetchMillis();
+		Assertions.assertTrue(detailFetchMillis >= 100 && detailFetchMillis < 1000, "detail fetch " + detailFetchMillis);
+		Assertions.assertEquals(10, cycle.getDetailFetches());
+		Assertions.assertEquals(1, cycle.getDetailFailures());
+	}
+
+	@Test
+	void testPhaseEndsWithItsLastCompletion() throws Exception {
+		CollectionCycleMetrics cycle = new CollectionCycleMetrics();
+		cycle.accessoryFetchDispatched();
+		cycle.accessoryFetchDispatched();
+		TimeUnit.MILLISECONDS.sleep(50);
+		cycle.accessoryFetchCompleted();
+		long firstCompletion = cycle.getAccessoryFetchMillis();
+		TimeUnit.MILLISECONDS.sleep(50);
+		cycle.accessoryFetchCompleted();
+
+		Assertions.assertTrue(firstCompletion >= 50, "first completion " + firstCompletion);
+		Assertions.assertTrue(cycle.getAccessoryFetchMillis() >= firstCompletion + 50, "accessory fetch " + cycle.getAccessoryFetchMillis());
+	}
+
+	@Test
+	void testPhaseWithoutCompletedRequestIsZero() {
+		CollectionCycleMetrics cycle = new CollectionCycleMetrics();
+		Assertions.assertEquals(0, cycle.getDetailFetchMillis());
+		cycle.detailFetchDispatched();
+		Assertions.assertEquals(0, cycle.getDetailFetchMillis());
+		Assertions.assertEquals(0, cycle.getAccessoryFetchMillis());
+	}
+
+	@Test
+	void testDeviceCounters() {
+		CollectionCycleMetrics cycle = new CollectionCycleMetrics();
+		cycle.deviceListed(true, true);
+		cycle.deviceSkipped();
+		cycle.deviceListed(false, true);
+		cycle.deviceDispatched();
+		cycle.deviceListed(false, false);
+		cycle.deviceDispatched();
+		cycle.deviceCompleted();
+
+		Assertions.assertEquals(2, cycle.getDevicesProcessed());
+		Assertions.assertEquals(1, cycle.getDevicesSkipped());
+		Assertions.assertEquals(1, cycle.getDevicesPending());
+		Assertions.assertEquals(50.0, cycle.getCacheHitRatio(), 0.001);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CollectionPartitionTest checks the schedule and the run metrics of a {@link CollectionPartition}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class CollectionPartitionTest {
+	private static final long INTERVAL = 30000;
+	private static final long MAX_BACKOFF = 300000;
+
+	@Test
+	void testOnlyOneRefreshRunsAtATime() {
+		CollectionPartition partition = new CollectionPartition("Site_HQ");
+		long now = System.currentTimeMillis();
+		Assertions.assertNull(partition.getCurrentRun());
+		Assertions.assertTrue(partition.tryStart(now));
+		CollectionCycleMetrics run = partition.getCurrentRun();
+		Assertions.assertNotNull(run);
+		Assertions.assertFalse(partition.tryStart(now));
+		Assertions.assertSame(run, partition.getCurrentRun());
+
+		partition.finish(true, INTERVAL, MAX_BACKOFF);
+		Assertions.assertSame(run, partition.getLastRun());
+		Assertions.assertFalse(partition.tryStart(now));
+		Assertions.assertTrue(partition.tryStart(now + INTERVAL * 2));
+		Assertions.assertNotSame(run, partition.getCurrentRun());
+	}
+
+	@Test
+	void testFailuresBackOff() {
+		CollectionPartition partition = new CollectionPartition("0");
+		long now = System.currentTimeMillis();
+		Assertions.assertTrue(partition.tryStart(now));
+		partition.finish(false, INTERVAL, MAX_BACKOFF);
+		Assertions.assertEquals(1, partition.getConsecutiveFailures());
+		Assertions.assertFalse(partition.tryStart(now + INTERVAL + 1000));
+		Assertions.assertTrue(partition.tryStart(now + INTERVAL * 2 + 1000));
+		partition.finish(true, INTERVAL, MAX_BACKOFF);
+		Assertions.assertEquals(0, partition.getConsecutiveFailures());
+	}
+
+	@Test
+	void testAssignMakesPartitionDueUnlessBackingOff() {
+		CollectionPartition partition = new CollectionPartition("0");
+		long now = System.currentTimeMillis();
+		Assertions.assertTrue(partition.tryStart(now));
+		partition.finish(true, INTERVAL, MAX_BACKOFF);
+		partition.assign(Collections.singletonList(Collections.singletonMap("id", "device-1")));
+		Assertions.assertEquals(1, partition.getEntries().size());
+		Assertions.assertTrue(partition.tryStart(now));
+		partition.finish(false, INTERVAL, MAX_BACKOFF);
+		partition.assign(Collections.emptyList());
+		Assertions.assertFalse(partition.tryStart(now));
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * DeviceDetailTest checks which values {@link DeviceDetail} keeps from a {@code dm/devices/{id}} response
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class DeviceDetailTest {
+	private final ObjectReader deviceDetailReader = new ObjectMapper().readerFor(DeviceDetail.class);
+
+	/**
+	 * Parses a response
+	 *
+	 * @param json content of the response
+	 * @return the parsed response
+	 */
+	private DeviceDetail parse(String json) throws IOException {
+		return deviceDetailReader.readValue(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void testKeptFields() throws Exception {
+		DeviceDetail detail = parse("{\"id\":\"device-1\",\"mac\":\"805ec0000001\",\"sn\":\"SN1\",\"name\":\"Room 1\",\"modelName\":\"MeetingBar A40\","
+				+ "\"siteName\":\"HQ\",\"programVersion\":\"133.0\",\"lanIp\":\"10.0.0.1\",\"lastReportTime\":1759372401000,"
+				+ "\"deviceStatus\":\"online\",\"deviceType\":\"RoomsDevice\",\"accounts\":[{\"name\":\"x\"}]}");
+
+		Assertions.assertEquals("805ec0000001", detail.getValue(AggregatedInformation.MAC));
+		Assertions.assertEquals("SN1", detail.getValue(AggregatedInformation.SN));
+		Assertions.assertEquals("Room 1", detail.getValue(AggregatedInformation.NAME));
+		Assertions.assertEquals("MeetingBar A40", detail.getValue(AggregatedInformation.MODEL_NAME));
+		Assertions.assertEquals("HQ", detail.getValue(AggregatedInformation.SITE_NAME));
+		Assertions.assertEquals("133.0", detail.getValue(AggregatedInformation.PROGRAM_VERSION));
+		Assertions.assertEquals("10.0.0.1", detail.getValue(AggregatedInformation.LAN_IP));
+		Assertions.assertEquals("1759372401000", detail.getValue(AggregatedInformation.LAST_REPORT_TIME));
+		Assertions.assertEquals("online", detail.getValue(AggregatedInformation.DEVICE_STATUS));
+		Assertions.assertEquals("RoomsDevice", detail.getDeviceType());
+	}
+
+	@Test
+	void testMissingAndNullFields() throws Exception {
+		DeviceDetail detail = parse("{\"mac\":\"805ec0000001\",\"name\":null,\"lanIp\":null}");
+
+		Assertions.assertEquals("805ec0000001", detail.getValue(AggregatedInformation.MAC));
+		Assertions.assertNull(detail.getValue(AggregatedInformation.NAME));
+		Assertions.assertNull(detail.getValue(AggregatedInformation.LAN_IP));
+		Assertions.assertNull(detail.getValue(AggregatedInformation.SITE_NAME));
+		Assertions.assertNull(detail.getValue(AggregatedInformation.LAST_REPORT_TIME));
+		Assertions.assertNull(detail.getDeviceType());
+	}
+
+	@Test
+	void testEmptyResponse() throws Exception {
+		DeviceDetail detail = parse("{}");
+
+		for (AggregatedInformation info : AggregatedInformation.values()) {
+			Assertions.assertNull(detail.getValue(info), info.name());
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * DeviceListPageTest checks which values {@link DeviceListPage} keeps from a page of {@code dm/listDevices}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class DeviceListPageTest {
+	private final JsonFactory jsonFactory = new JsonFactory();
+
+	/**
+	 * Parses a page
+	 *
+	 * @param json content of the page
+	 * @return the parsed page
+	 */
+	private DeviceListPage parse(String json) throws IOException {
+		return DeviceListPage.parse(jsonFactory, json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void testKeptFieldsOfEntries() throws Exception {
+		DeviceListPage page = parse("{\"total\":2,\"skip\":0,\"data\":["
+				+ "{\"id\":\"device-1\",\"deviceType\":\"RoomsDevice\",\"name\":\"Room 1\",\"mac\":\"805ec0000001\",\"lastReportTime\":1759372401000,\"firmware\":\"x\"},"
+				+ "{\"id\":\"device-2\",\"name\":\"Room 2\",\"deviceStatus\":\"online\"}]}");
+
+		Assertions.assertEquals(Integer.valueOf(2), page.getTotal());
+		Assertions.assertEquals(2, page.getEntries().size());
+		Map<String, String> first = page.getEntries().get(0);
+		Assertions.assertEquals(5, first.size());
+		Assertions.assertEquals("device-1", first.get("id"));
+		Assertions.assertEquals("RoomsDevice", first.get("deviceType"));
+		Assertions.assertEquals("Room 1", first.get("name"));
+		Assertions.assertEquals("805ec0000001", first.get("mac"));
+		Assertions.assertEquals("1759372401000", first.get("lastReportTime"));
+		Assertions.assertEquals("online", page.getEntries().get(1).get("deviceStatus"));
+	}
+
+	@Test
+	void testNestedObjectsAndArraysAreSkipped() throws Exception {
+		DeviceListPage page = parse("{\"meta\":{\"data\":[{\"id\":\"ignored\"}],\"total\":99},\"data\":["
+				+ "{\"id\":\"device-1\",\"name\":{\"first\":\"Room\",\"id\":\"nested\"},\"tags\":[\"a\",{\"id\":\"nested\"},[1,2]],\"siteName\":\"HQ\"},"
+				+ "[\"not\",\"an\",\"entry\"],\"text\",7,"
+				+ "{\"id\":\"device-2\"}],\"total\":2}");
+
+		Assertions.assertEquals(Integer.valueOf(2), page.getTotal());
+		Assertions.assertEquals(2, page.getEntries().size());
+		Map<String, String> first = page.getEntries().get(0);
+		Assertions.assertEquals(2, first.size());
+		Assertions.assertEquals("device-1", first.get("id"));
+		Assertions.assertEquals("HQ", first.get("siteName"));
+		Assertions.assertEquals("device-2", page.getEntries().get(1).get("id"));
+	}
+
+	@Test
+	void testNullFieldsAreDropped() throws Exception {
+		DeviceListPage page = parse("{\"total\":1,\"data\":[{\"id\":\"device-1\",\"name\":null,\"lanIp\":null,\"modelName\":\"MeetingBar A40\"}]}");
+
+		Map<String, String> entry = page.getEntries().get(0);
+		Assertions.assertEquals(2, entry.size());
+		Assertions.assertFalse(entry.containsKey("name"));
+		Assertions.assertFalse(entry.containsKey("lanIp"));
+		Assertions.assertEquals("MeetingBar A40", entry.get("modelName"));
+	}
+
+	@Test
+	void testMissingTotal() throws Exception {
+		DeviceListPage page = parse("{\"data\":[{\"id\":\"device-1\"}]}");
+		Assertions.assertNull(page.getTotal());
+		Assertions.assertEquals(1, page.getEntries().size());
+
+		page = parse("{\"total\":null,\"data\":[]}");
+		Assertions.assertNull(page.getTotal());
+	}
+
+	@Test
+	void testEmptyDataArray() throws Exception {
+		DeviceListPage page = parse("{\"total\":0,\"data\":[]}");
+		Assertions.assertEquals(Integer.valueOf(0), page.getTotal());
+		Assertions.assertTrue(page.getEntries().isEmpty());
+
+		page = parse("{\"total\":0,\"data\":null}");
+		Assertions.assertTrue(page.getEntries().isEmpty());
+
+		page = parse("{}");
+		Assertions.assertNull(page.getTotal());
+		Assertions.assertTrue(page.getEntries().isEmpty());
+	}
+
+	@Test
+	void testResponseThatIsNotAnObjectIsRejected() {
+		Assertions.assertThrows(IOException.class, () -> parse("[{\"id\":\"device-1\"}]"));
+	}
+}
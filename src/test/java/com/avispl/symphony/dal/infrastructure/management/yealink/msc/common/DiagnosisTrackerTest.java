@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * DiagnosisTrackerTest checks the polling backoff, the final states and the timeout of {@link DiagnosisTracker}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class DiagnosisTrackerTest {
+	private static final String DEVICE_ID = "device-1";
+	private static final String TYPE = "ExportLog";
+	private static final String STATUS = "Diagnosis_ExportLog#Status";
+	private static final String PROGRESS = "Diagnosis_ExportLog#Progress(%)";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private DiagnosisTracker diagnosisTracker;
+
+	@AfterEach
+	void destroy() {
+		if (diagnosisTracker != null) {
+			diagnosisTracker.stop();
+		}
+	}
+
+	/**
+	 * Creates a status response
+	 *
+	 * @param status status of the task
+	 * @param progress progress of the task
+	 * @return the response
+	 */
+	private JsonNode status(String status, int progress) {
+		ObjectNode response = objectMapper.createObjectNode();
+		ObjectNode data = response.putObject("data");
+		data.put("status", status);
+		data.put("progress", progress);
+		return response;
+	}
+
+	/**
+	 * Waits until the task of {@link #DEVICE_ID} is no longer in progress
+	 *
+	 * @param timeoutMs maximum time to wait
+	 */
+	private void awaitCompletion(long timeoutMs) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeoutMs;
+		while (diagnosisTracker.isInProgress(DEVICE_ID, TYPE) && System.currentTimeMillis() < deadline) {
+			TimeUnit.MILLISECONDS.sleep(10);
+		}
+		Assertions.assertFalse(diagnosisTracker.isInProgress(DEVICE_ID, TYPE));
+	}
+
+	@Test
+	void testPollDelayDoublesUpToMaximum() throws Exception {
+		List<Long> polls = new CopyOnWriteArrayList<>();
+		diagnosisTracker = new DiagnosisTracker(taskId -> {
+			polls.add(System.nanoTime());
+			return polls.size() < 6 ? status("running", 10) : status("finished", 100);
+		}, () -> {
+		}, new ValueFormatter(), 50, 200, TimeUnit.MINUTES.toMillis(1), TimeUnit.MINUTES.toMillis(1));
+		diagnosisTracker.start();
+		long trackedAt = System.nanoTime();
+		diagnosisTracker.track(DEVICE_ID, TYPE, "task-1");
+		awaitCompletion(5000);
+
+		Assertions.assertEquals(6, polls.size());
+		long[] expectedDelays = { 50, 100, 200, 200, 200, 200 };
+		long previous = trackedAt;
+		for (int i = 0; i < polls.size(); i++) {
+			long delay = TimeUnit.NANOSECONDS.toMillis(polls.get(i) - previous);
+			Assertions.assertTrue(delay >= expectedDelays[i] - 5, String.format("poll %d after %d ms", i, delay));
+			previous = polls.get(i);
+		}
+	}
+
+	@Test
+	void testFinalStatusStopsPolling() throws Exception {
+		AtomicInteger polls = new AtomicInteger();
+		diagnosisTracker = new DiagnosisTracker(taskId -> {
+			polls.incrementAndGet();
+			return status("finished", 100);
+		}, () -> {
+		}, new ValueFormatter(), 20, 20, TimeUnit.MINUTES.toMillis(1), TimeUnit.MINUTES.toMillis(1));
+		diagnosisTracker.start();
+		diagnosisTracker.track(DEVICE_ID, TYPE, "task-1");
+		awaitCompletion(2000);
+		TimeUnit.MILLISECONDS.sleep(200);
+
+		Assertions.assertEquals(1, polls.get());
+		Map<String, String> properties = diagnosisTracker.getProperties(DEVICE_ID);
+		Assertions.assertEquals("Finished", properties.get(STATUS));
+		Assertions.assertEquals("100", properties.get(PROGRESS));
+	}
+
+	@Test
+	void testFailedStatusIsFinal() throws Exception {
+		diagnosisTracker = new DiagnosisTracker(taskId -> status("failed", 40), () -> {
+		}, new ValueFormatter(), 20, 20, TimeUnit.MINUTES.toMillis(1), TimeUnit.MINUTES.toMillis(1));
+		diagnosisTracker.start();
+		diagnosisTracker.track(DEVICE_ID, TYPE, "task-1");
+		awaitCompletion(2000);
+
+		Assertions.assertEquals("Failed", diagnosisTracker.getProperties(DEVICE_ID).get(STATUS));
+		Assertions.assertEquals("40", diagnosisTracker.getProperties(DEVICE_ID).get(PROGRESS));
+	}
+
+	@Test
+	void testEmptyStatusKeepsPreviousStatus() throws Exception {
+		// more empty statuses than failed polls allowed, so they must not be counted as failures
+		AtomicInteger polls = new AtomicInteger();
+		diagnosisTracker = new DiagnosisTracker(taskId -> polls.incrementAndGet() < 7 ? status("", 50) : status("finished", 100), () -> {
+		}, new ValueFormatter(), 10, 10, TimeUnit.MINUTES.toMillis(1), TimeUnit.MINUTES.toMillis(1));
+		diagnosisTracker.start();
+		diagnosisTracker.track(DEVICE_ID, TYPE, "task-1");
+		awaitCompletion(2000);
+
+		Assertions.assertEquals(7, polls.get());
+		Assertions.assertEquals("Finished", diagnosisTracker.getProperties(DEVICE_ID).get(STATUS));
+	}
+
+	@Test
+	void testTaskWithoutIdIsNotPolled() throws Exception {
+		AtomicInteger polls = new AtomicInteger();
+		diagnosisTracker = new DiagnosisTracker(taskId -> {
+			polls.incrementAndGet();
+			return status("running", 0);
+		}, () -> {
+		}, new ValueFormatter(), 20, 20, TimeUnit.MINUTES.toMillis(1), TimeUnit.MINUTES.toMillis(1));
+		diagnosisTracker.start();
+		diagnosisTracker.track(DEVICE_ID, TYPE, null);
+		TimeUnit.MILLISECONDS.sleep(200);
+
+		Assertions.assertTrue(diagnosisTracker.isInProgress(DEVICE_ID, TYPE));
+		Assertions.assertEquals(0, polls.get());
+		Assertions.assertEquals("Started (untracked)", diagnosisTracker.getProperties(DEVICE_ID).get(STATUS));
+	}
+
+	@Test
+	void testTaskWithoutIdExpires() throws Exception {
+		AtomicInteger changes = new AtomicInteger();
+		diagnosisTracker = new DiagnosisTracker(taskId -> status("running", 0), changes::incrementAndGet, new ValueFormatter(), 20, 20,
+				TimeUnit.MINUTES.toMillis(1), 150);
+		diagnosisTracker.start();
+		diagnosisTracker.track(DEVICE_ID, TYPE, "");
+		Assertions.assertTrue(diagnosisTracker.isInProgress(DEVICE_ID, TYPE));
+		awaitCompletion(2000);
+
+		Assertions.assertEquals("Unknown", diagnosisTracker.getProperties(DEVICE_ID).get(STATUS));
+		Assertions.assertEquals(2, changes.get());
+	}
+
+	@Test
+	void testRepeatedPollFailuresGiveUp() throws Exception {
+		AtomicInteger polls = new AtomicInteger();
+		diagnosisTracker = new DiagnosisTracker(taskId -> {
+			polls.incrementAndGet();
+			throw new IllegalStateException("Status endpoint unavailable");
+		}, () -> {
+		}, new ValueFormatter(), 10, 10, TimeUnit.MINUTES.toMillis(1), TimeUnit.MINUTES.toMillis(1));
+		diagnosisTracker.start();
+		diagnosisTracker.track(DEVICE_ID, TYPE, "task-1");
+		awaitCompletion(2000);
+
+		Assertions.assertEquals(5, polls.get());
+		Assertions.assertEquals("Unknown", diagnosisTracker.getProperties(DEVICE_ID).get(STATUS));
+	}
+
+	@Test
+	void testRunningTaskTimesOut() throws Exception {
+		diagnosisTracker = new DiagnosisTracker(taskId -> status("running", 30), () -> {
+		}, new ValueFormatter(), 20, 20, 150, TimeUnit.MINUTES.toMillis(1));
+		diagnosisTracker.start();
+		diagnosisTracker.track(DEVICE_ID, TYPE, "task-1");
+		Assertions.assertTrue(diagnosisTracker.isInProgress(DEVICE_ID, TYPE));
+		awaitCompletion(2000);
+
+		Assertions.assertEquals("Unknown", diagnosisTracker.getProperties(DEVICE_ID).get(STATUS));
+		Assertions.assertEquals("30", diagnosisTracker.getProperties(DEVICE_ID).get(PROGRESS));
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import com.avispl.symphony.dal.infrastructure.management.yealink.msc.common.constants.YealinkCommand;
+
+/**
+ * EndpointClassTest checks the classification of requests and the default rates of {@link EndpointClass}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class EndpointClassTest {
+	private static final String DEVICE_ID = "0b5a5f3c2d0e4f6a8b1c9d7e6f5a4b3c";
+
+	@Test
+	void testRequestsAreClassified() {
+		Assertions.assertEquals(EndpointClass.TOKEN, EndpointClass.fromRequest(HttpMethod.POST, YealinkCommand.GET_AUTH));
+		Assertions.assertEquals(EndpointClass.TOKEN, EndpointClass.fromRequest(HttpMethod.POST, "/v2/token?grant_type=client_credentials"));
+		Assertions.assertEquals(EndpointClass.LIST, EndpointClass.fromRequest(HttpMethod.POST, YealinkCommand.GET_LIST_DEVICES));
+		Assertions.assertEquals(EndpointClass.DETAIL, EndpointClass.fromRequest(HttpMethod.GET, String.format(YealinkCommand.GET_DEVICES_DETAIL, DEVICE_ID)));
+		Assertions.assertEquals(EndpointClass.LIST_PARTS, EndpointClass.fromRequest(HttpMethod.GET, String.format(YealinkCommand.GET_LIST_ACCESSORY, DEVICE_ID)));
+		Assertions.assertEquals(EndpointClass.CONTROL, EndpointClass.fromRequest(HttpMethod.POST, YealinkCommand.REBOOT_URI));
+		Assertions.assertEquals(EndpointClass.CONTROL, EndpointClass.fromRequest(HttpMethod.PUT, String.format(YealinkCommand.EXPORT_LOG_URI, DEVICE_ID)));
+		Assertions.assertEquals(EndpointClass.CONTROL, EndpointClass.fromRequest(HttpMethod.PUT, String.format(YealinkCommand.PACKET_CAPTURE_URI, DEVICE_ID)));
+	}
+
+	@Test
+	void testAuxiliaryReadsAreNotDetails() {
+		Assertions.assertEquals(EndpointClass.AUXILIARY, EndpointClass.fromRequest(HttpMethod.GET, String.format(YealinkCommand.GET_NETWORK_INTERFACE, DEVICE_ID)));
+		Assertions.assertEquals(EndpointClass.AUXILIARY, EndpointClass.fromRequest(HttpMethod.GET, String.format(YealinkCommand.GET_DEVICE_COUNT, "3")));
+		Assertions.assertEquals(EndpointClass.AUXILIARY, EndpointClass.fromRequest(HttpMethod.GET, String.format(YealinkCommand.STATUS_OF_DIAGNOSIS, "task-1")));
+	}
+
+	@Test
+	void testFromNameIgnoresCase() {
+		Assertions.assertEquals(EndpointClass.LIST_PARTS, EndpointClass.fromName("listparts"));
+		Assertions.assertEquals(EndpointClass.DETAIL, EndpointClass.fromName("Detail"));
+		Assertions.assertNull(EndpointClass.fromName("Unknown"));
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * HistoricalPropertyStoreTest checks the history rings, the slot reuse, the published aggregates and the memory budget of
+ * {@link HistoricalPropertyStore}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class HistoricalPropertyStoreTest {
+	private static final String EXPORT_LOG = "Diagnosis_ExportLog#Progress(%)";
+	private static final String PACKET_CAPTURE = "Diagnosis_PacketCapture#Progress(%)";
+	private static final String SCREEN_CAPTURE = "Diagnosis_ScreenCapture#Progress(%)";
+	private static final long NO_BUDGET = Long.MAX_VALUE;
+
+	/**
+	 * Records a sample of a device
+	 *
+	 * @param store target store
+	 * @param deviceId target device id
+	 * @param timestamp time of the sample
+	 * @param values property names followed by their values
+	 * @return dynamic statistics returned by the store
+	 */
+	private static Map<String, String> record(HistoricalPropertyStore store, String deviceId, long timestamp, String... values) {
+		Map<String, String> stats = new HashMap<>();
+		for (int i = 0; i < values.length; i += 2) {
+			stats.put(values[i], values[i + 1]);
+		}
+		return store.record(deviceId, timestamp, stats);
+	}
+
+	/**
+	 * Copies the values of the history of a property
+	 *
+	 * @param store target store
+	 * @param deviceId target device id
+	 * @param property name of the property
+	 * @return the values, oldest first
+	 */
+	private static double[] history(HistoricalPropertyStore store, String deviceId, String property) {
+		long[] timestamps = new long[store.getHistorySize()];
+		double[] values = new double[store.getHistorySize()];
+		return Arrays.copyOf(values, store.copyHistory(deviceId, property, timestamps, values));
+	}
+
+	@Test
+	void testRingWrapsAround() {
+		HistoricalPropertyStore store = new HistoricalPropertyStore(Collections.singletonList(EXPORT_LOG), 3, NO_BUDGET);
+		for (int i = 1; i <= 5; i++) {
+			record(store, "device-1", i * 1000L, EXPORT_LOG, String.valueOf(i * 10));
+		}
+		Assertions.assertArrayEquals(new double[] { 30, 40, 50 }, history(store, "device-1", EXPORT_LOG), 0);
+
+		long[] timestamps = new long[3];
+		store.copyHistory("device-1", EXPORT_LOG, timestamps, new double[3]);
+		Assertions.assertArrayEquals(new long[] { 3000, 4000, 5000 }, timestamps);
+	}
+
+	@Test
+	void testMissingSamplesAreNaN() {
+		HistoricalPropertyStore store = new HistoricalPropertyStore(Arrays.asList(EXPORT_LOG, PACKET_CAPTURE), 4, NO_BUDGET);
+		record(store, "device-1", 1000, EXPORT_LOG, "10", PACKET_CAPTURE, "20");
+		record(store, "device-1", 2000, EXPORT_LOG, "None", PACKET_CAPTURE, "30");
+		record(store, "device-1", 3000, EXPORT_LOG, "50");
+
+		Assertions.assertArrayEquals(new double[] { 10, Double.NaN, 50 }, history(store, "device-1", EXPORT_LOG), 0);
+		Assertions.assertArrayEquals(new double[] { 20, 30, Double.NaN }, history(store, "device-1", PACKET_CAPTURE), 0);
+	}
+
+	@Test
+	void testSlotIsReusedAfterRetainDevices() {
+		HistoricalPropertyStore store = new HistoricalPropertyStore(Collections.singletonList(EXPORT_LOG), 3, NO_BUDGET);
+		record(store, "device-1", 1000, EXPORT_LOG, "10");
+		record(store, "device-1", 2000, EXPORT_LOG, "20");
+		record(store, "device-2", 2000, EXPORT_LOG, "70");
+
+		store.retainDevices(Collections.singleton("device-2"));
+		Assertions.assertEquals(0, history(store, "device-1", EXPORT_LOG).length);
+
+		Map<String, String> dynamicStatistics = record(store, "device-3", 3000, EXPORT_LOG, "90");
+		Assertions.assertArrayEquals(new double[] { 90 }, history(store, "device-3", EXPORT_LOG), 0);
+		Assertions.assertEquals("90.0", dynamicStatistics.get("Diagnosis_ExportLog#ProgressMin(%)"));
+		Assertions.assertArrayEquals(new double[] { 70 }, history(store, "device-2", EXPORT_LOG), 0);
+	}
+
+	@Test
+	void testPropertiesMatchByFullName() {
+		HistoricalPropertyStore store = new HistoricalPropertyStore(Collections.singletonList(EXPORT_LOG), 3, NO_BUDGET);
+		Map<String, String> stats = new HashMap<>();
+		stats.put(EXPORT_LOG, "10");
+		stats.put(PACKET_CAPTURE, "20");
+		stats.put(SCREEN_CAPTURE, "30");
+		Map<String, String> dynamicStatistics = store.record("device-1", 1000, stats);
+
+		Assertions.assertEquals("10", dynamicStatistics.get(EXPORT_LOG));
+		Assertions.assertEquals(new HashSet<>(Arrays.asList(PACKET_CAPTURE, SCREEN_CAPTURE)), stats.keySet());
+
+		store = new HistoricalPropertyStore(Collections.singletonList("Progress(%)"), 3, NO_BUDGET);
+		Assertions.assertTrue(record(store, "device-1", 1000, EXPORT_LOG, "10").isEmpty());
+	}
+
+	@Test
+	void testNonNumericValuesStayProperties() {
+		HistoricalPropertyStore store = new HistoricalPropertyStore(Collections.singletonList(EXPORT_LOG), 3, NO_BUDGET);
+		for (String value : new String[] { "None", "N/A", "", "-", "1e", "Infinity", "NaN", "0x10" }) {
+			Map<String, String> stats = new HashMap<>();
+			stats.put(EXPORT_LOG, value);
+			Assertions.assertTrue(store.record("device-1", 1000, stats).isEmpty(), value);
+			Assertions.assertEquals(value, stats.get(EXPORT_LOG));
+		}
+		Assertions.assertEquals("-1.5e2", record(store, "device-1", 1000, EXPORT_LOG, "-1.5e2").get(EXPORT_LOG));
+	}
+
+	@Test
+	void testAggregatesAreNamedBeforeUnit() {
+		HistoricalPropertyStore store = new HistoricalPropertyStore(Arrays.asList(EXPORT_LOG, "Statistics#Count"), 3, NO_BUDGET);
+		record(store, "device-1", 1000, EXPORT_LOG, "10", "Statistics#Count", "1");
+		record(store, "device-1", 2000, EXPORT_LOG, "None", "Statistics#Count", "2");
+		record(store, "device-1", 3000, EXPORT_LOG, "40", "Statistics#Count", "3");
+		Map<String, String> dynamicStatistics = record(store, "device-1", 4000, EXPORT_LOG, "25", "Statistics#Count", "4");
+
+		Assertions.assertEquals("25", dynamicStatistics.get(EXPORT_LOG));
+		Assertions.assertEquals("25.0", dynamicStatistics.get("Diagnosis_ExportLog#ProgressMin(%)"));
+		Assertions.assertEquals("32.5", dynamicStatistics.get("Diagnosis_ExportLog#ProgressAvg(%)"));
+		Assertions.assertEquals("40.0", dynamicStatistics.get("Diagnosis_ExportLog#ProgressMax(%)"));
+		Assertions.assertEquals("2.0", dynamicStatistics.get("Statistics#CountMin"));
+		Assertions.assertEquals("3.0", dynamicStatistics.get("Statistics#CountAvg"));
+		Assertions.assertEquals("4.0", dynamicStatistics.get("Statistics#CountMax"));
+	}
+
+	@Test
+	void testHistoryIsShortenedToMemoryBudget() {
+		// 64 slots of 2 properties and a timestamp fit 8 samples each, 128 slots fit 4
+		HistoricalPropertyStore store = new HistoricalPropertyStore(Arrays.asList(EXPORT_LOG, PACKET_CAPTURE), 20, 64 * 3 * 8 * Double.BYTES);
+		Assertions.assertEquals(8, store.getHistorySize());
+		for (int i = 1; i <= 10; i++) {
+			record(store, "device-0", i * 1000L, EXPORT_LOG, String.valueOf(i));
+		}
+		Assertions.assertArrayEquals(new double[] { 3, 4, 5, 6, 7, 8, 9, 10 }, history(store, "device-0", EXPORT_LOG), 0);
+
+		for (int i = 1; i <= 64; i++) {
+			record(store, "device-" + i, 1000, EXPORT_LOG, "1");
+		}
+		Assertions.assertEquals(4, store.getHistorySize());
+		Assertions.assertArrayEquals(new double[] { 7, 8, 9, 10 }, history(store, "device-0", EXPORT_LOG), 0);
+		Assertions.assertArrayEquals(new double[] { Double.NaN, Double.NaN, Double.NaN, Double.NaN }, history(store, "device-0", PACKET_CAPTURE), 0);
+		record(store, "device-0", 11000, EXPORT_LOG, "11");
+		Assertions.assertArrayEquals(new double[] { 8, 9, 10, 11 }, history(store, "device-0", EXPORT_LOG), 0);
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LatencyHistogramTest checks the percentiles, error count and request rate of {@link LatencyHistogram} and its rolling window
+ * against a manual clock
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class LatencyHistogramTest {
+	private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+	/**
+	 * Moves {@link #clock} forward
+	 *
+	 * @param seconds elapsed time in seconds
+	 */
+	private void advance(long seconds) {
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+	}
+
+	/**
+	 * Records successful requests of the same latency
+	 *
+	 * @param histogram target histogram
+	 * @param count number of requests
+	 * @param latencyMillis latency of each request
+	 */
+	private static void record(LatencyHistogram histogram, int count, long latencyMillis) {
+		for (int i = 0; i < count; i++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(latencyMillis), false);
+		}
+	}
+
+	@Test
+	void testEmptyHistogram() {
+		LatencyHistogram.Snapshot snapshot = new LatencyHistogram(clock::get).snapshot();
+		Assertions.assertEquals(0, snapshot.getCount());
+		Assertions.assertEquals(0, snapshot.getErrors());
+		Assertions.assertEquals(0, snapshot.getP50Millis(), 0);
+		Assertions.assertEquals(0, snapshot.getP99Millis(), 0);
+		Assertions.assertEquals(0, snapshot.getRequestRate(), 0);
+	}
+
+	@Test
+	void testPercentilesOfUniformLatencies() {
+		LatencyHistogram histogram = new LatencyHistogram(clock::get);
+		for (int latency = 1; latency <= 1000; latency++) {
+			record(histogram, 1, latency);
+		}
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		Assertions.assertEquals(1000, snapshot.getCount());
+		assertWithinBucket(500, snapshot.getP50Millis());
+		assertWithinBucket(950, snapshot.getP95Millis());
+		assertWithinBucket(990, snapshot.getP99Millis());
+	}
+
+	@Test
+	void testPercentilesOfSkewedLatencies() {
+		LatencyHistogram histogram = new LatencyHistogram(clock::get);
+		record(histogram, 895, 20);
+		record(histogram, 90, 200);
+		record(histogram, 15, 3000);
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertWithinBucket(20, snapshot.getP50Millis());
+		assertWithinBucket(200, snapshot.getP95Millis());
+		assertWithinBucket(3000, snapshot.getP99Millis());
+	}
+
+	@Test
+	void testSubMillisecondAndOverflowLatencies() {
+		LatencyHistogram histogram = new LatencyHistogram(clock::get);
+		histogram.record(TimeUnit.MICROSECONDS.toNanos(5), false);
+		Assertions.assertEquals(0.005, histogram.snapshot().getP50Millis(), 0.0001);
+
+		histogram = new LatencyHistogram(clock::get);
+		histogram.record(TimeUnit.HOURS.toNanos(2), false);
+		histogram.record(-1, false);
+		Assertions.assertTrue(histogram.snapshot().getP99Millis() >= TimeUnit.SECONDS.toMillis(268));
+		Assertions.assertEquals(2, histogram.snapshot().getCount());
+	}
+
+	@Test
+	void testErrorsAndRequestRate() {
+		LatencyHistogram histogram = new LatencyHistogram(clock::get);
+		record(histogram, 100, 10);
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(10), true);
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(10), true);
+		advance(20);
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		Assertions.assertEquals(102, snapshot.getCount());
+		Assertions.assertEquals(2, snapshot.getErrors());
+		Assertions.assertEquals(5.1, snapshot.getRequestRate(), 0.01);
+	}
+
+	@Test
+	void testSnapshotDoesNotReset() {
+		LatencyHistogram histogram = new LatencyHistogram(clock::get);
+		record(histogram, 10, 10);
+		Assertions.assertEquals(10, histogram.snapshot().getCount());
+		Assertions.assertEquals(10, histogram.snapshot().getCount());
+	}
+
+	@Test
+	void testRequestsLeaveTheWindow() {
+		LatencyHistogram histogram = new LatencyHistogram(clock::get);
+		record(histogram, 10, 1000);
+		advance(30);
+		record(histogram, 10, 10);
+		Assertions.assertEquals(20, histogram.snapshot().getCount());
+
+		advance(35);
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		Assertions.assertEquals(10, snapshot.getCount());
+		assertWithinBucket(10, snapshot.getP99Millis());
+
+		advance(60);
+		Assertions.assertEquals(0, histogram.snapshot().getCount());
+		record(histogram, 3, 10);
+		Assertions.assertEquals(3, histogram.snapshot().getCount());
+	}
+
+	/**
+	 * Checks that a percentile is the upper bound of the bucket of the expected latency, at most 12.5% above it
+	 *
+	 * @param expectedMillis expected latency
+	 * @param actualMillis computed percentile
+	 */
+	private static void assertWithinBucket(double expectedMillis, double actualMillis) {
+		Assertions.assertTrue(actualMillis >= expectedMillis && actualMillis <= expectedMillis * 1.125,
+				String.format("expected about %s ms but was %s ms", expectedMillis, actualMillis));
+	}
+}
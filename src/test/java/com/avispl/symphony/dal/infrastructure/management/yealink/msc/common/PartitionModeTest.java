@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PartitionModeTest checks the partition keys resolved by {@link PartitionMode}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class PartitionModeTest {
+
+	/**
+	 * Creates a device list entry
+	 *
+	 * @param id device id
+	 * @param siteName site name, null for no site
+	 * @return the entry
+	 */
+	private static Map<String, String> entry(String id, String siteName) {
+		Map<String, String> entry = new HashMap<>();
+		entry.put("id", id);
+		if (siteName != null) {
+			entry.put(AggregatedInformation.SITE_NAME.getField(), siteName);
+		}
+		return entry;
+	}
+
+	@Test
+	void testSiteKeys() {
+		Assertions.assertEquals("Site_HQ", PartitionMode.SITE.partitionKey(entry("device-1", "HQ"), 4));
+		Assertions.assertEquals("Unassigned", PartitionMode.SITE.partitionKey(entry("device-2", null), 4));
+		Assertions.assertEquals("Unassigned", PartitionMode.SITE.partitionKey(entry("device-3", ""), 4));
+	}
+
+	@Test
+	void testSiteNamedUnassignedHasItsOwnPartition() {
+		Assertions.assertNotEquals(PartitionMode.SITE.partitionKey(entry("device-1", "Unassigned"), 4),
+				PartitionMode.SITE.partitionKey(entry("device-2", null), 4));
+	}
+
+	@Test
+	void testSiteKeysHaveNoHashAndStayDistinct() {
+		Set<String> keys = new HashSet<>();
+		for (String siteName : new String[] { "Floor#2", "Floor%232", "Floor%2", "Floor_2" }) {
+			String key = PartitionMode.SITE.partitionKey(entry("device-1", siteName), 4);
+			Assertions.assertFalse(key.contains("#"), key);
+			keys.add(key);
+		}
+		Assertions.assertEquals(4, keys.size());
+		Assertions.assertEquals("Site_Floor%232", PartitionMode.SITE.partitionKey(entry("device-1", "Floor#2"), 4));
+	}
+
+	@Test
+	void testHashKeys() {
+		Set<String> keys = new HashSet<>();
+		for (int i = 0; i < 100; i++) {
+			String key = PartitionMode.HASH.partitionKey(entry("device-" + i, "HQ"), 4);
+			Assertions.assertEquals(key, PartitionMode.HASH.partitionKey(entry("device-" + i, null), 4));
+			keys.add(key);
+		}
+		Assertions.assertEquals(new HashSet<>(Arrays.asList("0", "1", "2", "3")), keys);
+	}
+}
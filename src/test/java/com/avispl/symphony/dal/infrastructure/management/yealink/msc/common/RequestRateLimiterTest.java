@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RequestRateLimiterTest checks the pacing, the throttle backoff and the recovery of {@link RequestRateLimiter}
+ * against a manual clock
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class RequestRateLimiterTest {
+	private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+	/**
+	 * Moves {@link #clock} forward
+	 *
+	 * @param millis elapsed time in milliseconds
+	 */
+	private void advance(long millis) {
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+	}
+
+	@Test
+	void testBucketHoldsOneSecondOfRequests() {
+		RequestRateLimiter limiter = new RequestRateLimiter(10, clock::get);
+		for (int i = 0; i < 10; i++) {
+			Assertions.assertEquals(0, limiter.tryReserve());
+		}
+		Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(100), limiter.tryReserve());
+		advance(100);
+		Assertions.assertEquals(0, limiter.tryReserve());
+		Assertions.assertTrue(limiter.tryReserve() > 0);
+	}
+
+	@Test
+	void testThrottleHalvesRateAndBlocksForDelay() {
+		RequestRateLimiter limiter = new RequestRateLimiter(10, clock::get);
+		limiter.onThrottled(2000);
+		Assertions.assertEquals(5, limiter.getRate(), 0.001);
+		Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(2000), limiter.tryReserve());
+		advance(2000);
+		for (int i = 0; i < 5; i++) {
+			Assertions.assertEquals(0, limiter.tryReserve());
+		}
+		Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(200), limiter.tryReserve());
+	}
+
+	@Test
+	void testRateDoesNotDropBelowMinimum() {
+		RequestRateLimiter limiter = new RequestRateLimiter(100, clock::get);
+		for (int i = 0; i < 20; i++) {
+			limiter.onThrottled(0);
+		}
+		Assertions.assertEquals(5, limiter.getRate(), 0.001);
+	}
+
+	@Test
+	void testBurstOfSuccessesDoesNotUndoThrottle() {
+		RequestRateLimiter limiter = new RequestRateLimiter(100, clock::get);
+		limiter.onThrottled(0);
+		for (int i = 0; i < 100; i++) {
+			advance(1);
+			limiter.onSuccess();
+		}
+		Assertions.assertTrue(limiter.getRate() < 51, "rate " + limiter.getRate());
+	}
+
+	@Test
+	void testRateRecoversOverTime() {
+		RequestRateLimiter limiter = new RequestRateLimiter(100, clock::get);
+		limiter.onThrottled(0);
+		advance(TimeUnit.SECONDS.toMillis(6));
+		limiter.onSuccess();
+		Assertions.assertEquals(70, limiter.getRate(), 0.001);
+		advance(TimeUnit.SECONDS.toMillis(30));
+		limiter.onSuccess();
+		Assertions.assertEquals(100, limiter.getRate(), 0.001);
+	}
+
+	@Test
+	void testRecoveryStartsAfterRetryDelay() {
+		RequestRateLimiter limiter = new RequestRateLimiter(100, clock::get);
+		limiter.onThrottled(TimeUnit.SECONDS.toMillis(10));
+		advance(TimeUnit.SECONDS.toMillis(10));
+		limiter.onSuccess();
+		Assertions.assertEquals(50, limiter.getRate(), 0.001);
+		advance(TimeUnit.SECONDS.toMillis(3));
+		limiter.onSuccess();
+		Assertions.assertEquals(60, limiter.getRate(), 0.001);
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * YealinkTokenManagerTest checks the single-flight refresh and the background refresh of {@link YealinkTokenManager}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class YealinkTokenManagerTest {
+	private YealinkTokenManager tokenManager;
+
+	@AfterEach
+	void destroy() {
+		if (tokenManager != null) {
+			tokenManager.stop();
+		}
+	}
+
+	/**
+	 * Creates a login info retrieved now
+	 *
+	 * @param token access token
+	 * @param expiresIn lifetime of the token in seconds
+	 * @return the login info
+	 */
+	private static LoginInfo loginInfo(String token, long expiresIn) {
+		LoginInfo info = new LoginInfo();
+		info.setAccess_token(token);
+		info.setToken_type("Bearer");
+		info.setExpires_in(expiresIn);
+		info.setLoginDateTime(System.currentTimeMillis());
+		return info;
+	}
+
+	@Test
+	void testConcurrentCallersShareOneTokenRequest() throws Exception {
+		AtomicInteger requests = new AtomicInteger();
+		tokenManager = new YealinkTokenManager(() -> {
+			requests.incrementAndGet();
+			TimeUnit.MILLISECONDS.sleep(200);
+			return loginInfo("token-1", 3600);
+		});
+		tokenManager.start();
+
+		int callers = 8;
+		CountDownLatch ready = new CountDownLatch(callers);
+		CountDownLatch go = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(callers);
+		try {
+			List<Future<LoginInfo>> results = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				results.add(executor.submit(() -> {
+					ready.countDown();
+					go.await();
+					return tokenManager.ensureToken();
+				}));
+			}
+			ready.await();
+			go.countDown();
+			for (Future<LoginInfo> result : results) {
+				Assertions.assertEquals("token-1", result.get(5, TimeUnit.SECONDS).getAccessToken());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		Assertions.assertEquals(1, requests.get());
+	}
+
+	@Test
+	void testFailedBackgroundRefreshKeepsCurrentToken() throws Exception {
+		AtomicInteger requests = new AtomicInteger();
+		CountDownLatch backgroundRefreshFailed = new CountDownLatch(1);
+		tokenManager = new YealinkTokenManager(() -> {
+			if (requests.incrementAndGet() == 1) {
+				// refreshed in background about one second later, 30 seconds ahead of its expiration
+				return loginInfo("token-1", 31);
+			}
+			backgroundRefreshFailed.countDown();
+			throw new IllegalStateException("Token endpoint unavailable");
+		});
+		tokenManager.start();
+
+		Assertions.assertEquals("token-1", tokenManager.ensureToken().getAccessToken());
+		Assertions.assertTrue(backgroundRefreshFailed.await(10, TimeUnit.SECONDS));
+		Assertions.assertEquals("token-1", tokenManager.getAccessToken());
+	}
+}
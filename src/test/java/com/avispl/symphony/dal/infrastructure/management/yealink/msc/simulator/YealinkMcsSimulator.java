@@ -0,0 +1,447 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.yealink.msc.simulator;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.DelayDistribution;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+
+/**
+ * YealinkMcsSimulator is a local stand-in for the Yealink MCS cloud API, served by WireMock.
+ * It answers the endpoints used by the adapter (token, device list, device detail, listParts, networkInterfaces,
+ * deviceCount, reboot and diagnosis) for a synthetic fleet of configurable size, and can add latency drawn from a
+ * {@link DelayDistribution}, random 500 errors and 429 throttling above a request rate.
+ * Every request is counted per {@link Endpoint}, so tests can assert how many API calls a collection cycle made.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * @since 1.0.0
+ */
+public class YealinkMcsSimulator {
+	/**
+	 * Endpoints answered by the simulator
+	 */
+	public enum Endpoint {
+		TOKEN(RequestMethod.POST, Pattern.compile("/v2/token")),
+		LIST_DEVICES(RequestMethod.POST, Pattern.compile("/v2/dm/listDevices")),
+		DEVICE_DETAIL(RequestMethod.GET, Pattern.compile("/v2/dm/devices/([^/]+)")),
+		LIST_PARTS(RequestMethod.POST, Pattern.compile("/v2/dm/devices/([^/]+)/listParts")),
+		NETWORK_INTERFACES(RequestMethod.GET, Pattern.compile("/v2/dm/devices/([^/]+)/networkInterfaces")),
+		DEVICE_COUNT(RequestMethod.GET, Pattern.compile("/v2/dm/statistics/deviceCount")),
+		REBOOT(RequestMethod.POST, Pattern.compile("/v2/dm/device/reboot")),
+		DIAGNOSIS_START(RequestMethod.PUT, Pattern.compile("/v2/dm/devices/([^/]+)/(startPacketCapture|exportSyslog|captureScreen)")),
+		DIAGNOSIS_STATUS(RequestMethod.GET, Pattern.compile("/v2/dm/diagnosis/([^/]+)/status")),
+		;
+		private final RequestMethod method;
+		private final Pattern path;
+
+		Endpoint(RequestMethod method, Pattern path) {
+			this.method = method;
+			this.path = path;
+		}
+	}
+
+	private static final String TRANSFORMER_NAME = "yealink-mcs-simulator";
+	private static final String DEVICE_TYPE = "RoomsDevice";
+	private static final long BASE_REPORT_TIME = 1759372401000L;
+	private static final String[] DEVICE_MODELS = { "MeetingBar A30", "MeetingBar A20", "RoomCast", "MVC S90" };
+	private static final String[] ACCESSORY_MODELS = { "CTP18", "VCM38", "WPP30" };
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<Endpoint, AtomicInteger> callCounts = new EnumMap<>(Endpoint.class);
+	private final AtomicInteger errorCount = new AtomicInteger();
+	private final AtomicInteger throttledCount = new AtomicInteger();
+	private final Map<String, AtomicInteger> diagnosisPolls = new ConcurrentHashMap<>();
+	private final AtomicInteger diagnosisSequence = new AtomicInteger();
+
+	private volatile int fleetSize = 100;
+	private volatile DelayDistribution latency;
+	private volatile double errorRate;
+	private volatile int throttleRate;
+	private volatile boolean listTotal = true;
+	private long throttleWindowStart;
+	private int throttleWindowCount;
+	private WireMockServer server;
+
+	/**
+	 * Create an instance of YealinkMcsSimulator
+	 */
+	public YealinkMcsSimulator() {
+		for (Endpoint endpoint : Endpoint.values()) {
+			callCounts.put(endpoint, new AtomicInteger());
+		}
+	}
+
+	/**
+	 * Sets the number of devices of the fleet
+	 *
+	 * @param fleetSize number of devices
+	 * @return this simulator
+	 */
+	public YealinkMcsSimulator withFleetSize(int fleetSize) {
+		this.fleetSize = fleetSize;
+		return this;
+	}
+
+	/**
+	 * Sets the latency added to every response, such as
+	 * {@link com.github.tomakehurst.wiremock.http.UniformDistribution} or {@link com.github.tomakehurst.wiremock.http.LogNormal}
+	 *
+	 * @param latency latency distribution, null for none
+	 * @return this simulator
+	 */
+	public YealinkMcsSimulator withLatency(DelayDistribution latency) {
+		this.latency = latency;
+		return this;
+	}
+
+	/**
+	 * Sets the probability that a request other than the token request is answered with a 500 error
+	 *
+	 * @param errorRate probability in [0, 1]
+	 * @return this simulator
+	 */
+	public YealinkMcsSimulator withErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+		return this;
+	}
+
+	/**
+	 * Sets the number of requests served per second, requests above it are answered with 429 and {@code Retry-After: 1}
+	 *
+	 * @param requestsPerSecond requests per second, 0 for no throttling
+	 * @return this simulator
+	 */
+	public YealinkMcsSimulator withThrottleRate(int requestsPerSecond) {
+		this.throttleRate = requestsPerSecond;
+		return this;
+	}
+
+	/**
+	 * Sets whether the device list answers {@code autoCount} requests with the total of the fleet
+	 *
+	 * @param listTotal false to leave the total out of the list responses
+	 * @return this simulator
+	 */
+	public YealinkMcsSimulator withListTotal(boolean listTotal) {
+		this.listTotal = listTotal;
+		return this;
+	}
+
+	/**
+	 * Starts the simulator on a free local port
+	 */
+	public void start() {
+		server = new WireMockServer(options().dynamicPort().containerThreads(64).extensions(new SimulatorTransformer()));
+		server.stubFor(any(urlPathMatching("/v2/.*")).willReturn(aResponse().withTransformers(TRANSFORMER_NAME)));
+		server.start();
+	}
+
+	/**
+	 * Stops the simulator
+	 */
+	public void stop() {
+		if (server != null) {
+			server.stop();
+			server = null;
+		}
+	}
+
+	/**
+	 * Retrieves the port the simulator listens on
+	 *
+	 * @return the port
+	 */
+	public int getPort() {
+		return server.port();
+	}
+
+	/**
+	 * Retrieves the number of requests received by an endpoint, including the failed and throttled ones
+	 *
+	 * @param endpoint the endpoint
+	 * @return number of requests
+	 */
+	public int getCallCount(Endpoint endpoint) {
+		return callCounts.get(endpoint).get();
+	}
+
+	/**
+	 * Retrieves the number of requests answered with a simulated 500 error
+	 *
+	 * @return number of errors
+	 */
+	public int getErrorCount() {
+		return errorCount.get();
+	}
+
+	/**
+	 * Retrieves the number of requests answered with 429
+	 *
+	 * @return number of throttled requests
+	 */
+	public int getThrottledCount() {
+		return throttledCount.get();
+	}
+
+	/**
+	 * Resets every counter
+	 */
+	public void resetCounts() {
+		callCounts.values().forEach(count -> count.set(0));
+		errorCount.set(0);
+		throttledCount.set(0);
+	}
+
+	/**
+	 * Retrieves the id of a device of the fleet
+	 *
+	 * @param index index of the device
+	 * @return the device id
+	 */
+	public static String deviceId(int index) {
+		return String.format("%032x", index);
+	}
+
+	/**
+	 * Checks whether a request fits in the current one-second throttle window
+	 *
+	 * @return true if the request has to be throttled
+	 */
+	private synchronized boolean isThrottled() {
+		if (throttleRate <= 0) {
+			return false;
+		}
+		long now = System.nanoTime();
+		if (now - throttleWindowStart >= TimeUnit.SECONDS.toNanos(1)) {
+			throttleWindowStart = now;
+			throttleWindowCount = 0;
+		}
+		return ++throttleWindowCount > throttleRate;
+	}
+
+	/**
+	 * Retrieves the index of a device id of the fleet
+	 *
+	 * @param deviceId the device id
+	 * @return index of the device, or -1 if the device is not part of the fleet
+	 */
+	private int deviceIndex(String deviceId) {
+		try {
+			int index = Integer.parseInt(deviceId, 16);
+			return index >= 0 && index < fleetSize && deviceId(index).equals(deviceId) ? index : -1;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private ObjectNode device(int index) {
+		ObjectNode device = objectMapper.createObjectNode();
+		device.put("id", deviceId(index));
+		device.put("deviceType", DEVICE_TYPE);
+		device.put("mac", String.format("00:15:65:%02x:%02x:%02x", (index >> 16) & 0xff, (index >> 8) & 0xff, index & 0xff));
+		device.put("sn", String.format("80%010d", index));
+		device.put("name", "Room " + index);
+		device.put("modelName", DEVICE_MODELS[index % DEVICE_MODELS.length]);
+		device.put("siteName", "site-" + (index % 40));
+		device.put("programVersion", "133.320.0." + (index % 7));
+		device.put("lanIp", "10." + ((index >> 16) & 0xff) + "." + ((index >> 8) & 0xff) + "." + (index & 0xff));
+		device.put("lastReportTime", BASE_REPORT_TIME + index * 1000L);
+		device.put("deviceStatus", index % 10 == 0 ? "offline" : "online");
+		return device;
+	}
+
+	private ObjectNode token() {
+		ObjectNode token = objectMapper.createObjectNode();
+		token.put("access_token", "simulated-" + System.nanoTime());
+		token.put("token_type", "bearer");
+		token.put("expires_in", 7200);
+		return token;
+	}
+
+	private ObjectNode listDevices(Request request) throws Exception {
+		JsonNode body = objectMapper.readTree(request.getBodyAsString());
+		int skip = Math.max(0, body.path("skip").asInt(0));
+		int limit = Math.max(1, body.path("limit").asInt(20));
+		ObjectNode page = objectMapper.createObjectNode();
+		page.put("skip", skip);
+		page.put("limit", limit);
+		if (listTotal && body.path("autoCount").asBoolean(false)) {
+			page.put("total", fleetSize);
+		}
+		ArrayNode data = page.putArray("data");
+		for (int i = skip; i < Math.min(fleetSize, skip + limit); i++) {
+			data.add(device(i));
+		}
+		return page;
+	}
+
+	private ObjectNode listParts(int index) {
+		ObjectNode parts = objectMapper.createObjectNode();
+		ArrayNode data = parts.putArray("data");
+		for (int i = 0; i < 2; i++) {
+			ObjectNode part = data.addObject();
+			part.put("id", deviceId(index) + "-part-" + i);
+			part.put("mac", String.format("00:15:66:%02x:%02x:%02x", (index >> 8) & 0xff, index & 0xff, i));
+			part.put("sn", String.format("90%09d%d", index, i));
+			part.put("modelId", String.valueOf(i + 1));
+			part.put("modelName", ACCESSORY_MODELS[(index + i) % ACCESSORY_MODELS.length]);
+			part.put("connectWay", i == 0 ? "USB" : "WIFI");
+			part.put("connStatus", index % 10 == 0 ? 0 : 1);
+			part.put("lanIp", "10.1." + (index & 0xff) + "." + i);
+			part.put("programVersion", "1.0." + i);
+			part.put("lastReportTime", BASE_REPORT_TIME + index * 1000L);
+		}
+		parts.put("total", 2);
+		return parts;
+	}
+
+	private ObjectNode reboot(Request request) throws Exception {
+		JsonNode body = objectMapper.readTree(request.getBodyAsString());
+		ObjectNode result = objectMapper.createObjectNode();
+		ArrayNode errors = result.putArray("errors");
+		int successCount = 0;
+		for (JsonNode id : body.path("deviceIds")) {
+			if (deviceIndex(id.asText()) < 0) {
+				errors.addObject().put("deviceId", id.asText());
+			} else {
+				successCount++;
+			}
+		}
+		result.put("successCount", successCount);
+		result.put("failureCount", errors.size());
+		return result;
+	}
+
+	private ObjectNode startDiagnosis() {
+		String diagnosisId = "diagnosis-" + diagnosisSequence.incrementAndGet();
+		diagnosisPolls.put(diagnosisId, new AtomicInteger());
+		ObjectNode result = objectMapper.createObjectNode();
+		result.putObject("data").put("diagnosisId", diagnosisId);
+		return result;
+	}
+
+	private ObjectNode diagnosisStatus(String diagnosisId) {
+		AtomicInteger polls = diagnosisPolls.get(diagnosisId);
+		boolean finished = polls == null || polls.incrementAndGet() > 1;
+		ObjectNode result = objectMapper.createObjectNode();
+		result.put("status", finished ? "finished" : "running");
+		result.put("progress", finished ? 100 : 50);
+		return result;
+	}
+
+	/**
+	 * Routes every request to its {@link Endpoint} and builds the simulated response
+	 */
+	private class SimulatorTransformer extends ResponseDefinitionTransformer {
+		@Override
+		public String getName() {
+			return TRANSFORMER_NAME;
+		}
+
+		@Override
+		public boolean applyGlobally() {
+			return false;
+		}
+
+		@Override
+		public ResponseDefinition transform(Request request, ResponseDefinition responseDefinition, FileSource files, Parameters parameters) {
+			String path = request.getUrl().split("\\?", 2)[0];
+			for (Endpoint endpoint : Endpoint.values()) {
+				Matcher matcher = endpoint.path.matcher(path);
+				if (endpoint.method.equals(request.getMethod()) && matcher.matches()) {
+					callCounts.get(endpoint).incrementAndGet();
+					return respond(endpoint, matcher, request);
+				}
+			}
+			return delayed(new ResponseDefinitionBuilder().withStatus(404)).build();
+		}
+
+		private ResponseDefinition respond(Endpoint endpoint, Matcher matcher, Request request) {
+			if (isThrottled()) {
+				throttledCount.incrementAndGet();
+				return new ResponseDefinitionBuilder().withStatus(429).withHeader("Retry-After", "1").build();
+			}
+			if (endpoint != Endpoint.TOKEN && errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+				errorCount.incrementAndGet();
+				return delayed(new ResponseDefinitionBuilder().withStatus(500).withBody("{\"code\":\"500000\"}")).build();
+			}
+			try {
+				JsonNode body;
+				int index;
+				switch (endpoint) {
+					case TOKEN:
+						body = token();
+						break;
+					case LIST_DEVICES:
+						body = listDevices(request);
+						break;
+					case DEVICE_DETAIL:
+					case LIST_PARTS:
+					case NETWORK_INTERFACES:
+					case DIAGNOSIS_START:
+						index = deviceIndex(matcher.group(1));
+						if (index < 0) {
+							return delayed(new ResponseDefinitionBuilder().withStatus(404).withBody("{\"code\":\"900404\"}")).build();
+						}
+						if (endpoint == Endpoint.DEVICE_DETAIL) {
+							body = device(index);
+						} else if (endpoint == Endpoint.LIST_PARTS) {
+							body = listParts(index);
+						} else if (endpoint == Endpoint.NETWORK_INTERFACES) {
+							body = objectMapper.createArrayNode().add("eth0").add("wlan0");
+						} else {
+							body = startDiagnosis();
+						}
+						break;
+					case DEVICE_COUNT:
+						body = objectMapper.createObjectNode().put("total", fleetSize);
+						break;
+					case REBOOT:
+						body = reboot(request);
+						break;
+					case DIAGNOSIS_STATUS:
+						body = diagnosisStatus(matcher.group(1));
+						break;
+					default:
+						return new ResponseDefinitionBuilder().withStatus(404).build();
+				}
+				return delayed(new ResponseDefinitionBuilder().withStatus(200)
+						.withHeader("Content-Type", "application/json")
+						.withBody(objectMapper.writeValueAsBytes(body))).build();
+			} catch (Exception e) {
+				return new ResponseDefinitionBuilder().withStatus(400).withBody(String.valueOf(e.getMessage())).build();
+			}
+		}
+
+		private ResponseDefinitionBuilder delayed(ResponseDefinitionBuilder builder) {
+			DelayDistribution distribution = latency;
+			return distribution == null ? builder : builder.withRandomDelay(distribution);
+		}
+	}
+}